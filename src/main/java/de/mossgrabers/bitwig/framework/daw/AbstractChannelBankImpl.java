@@ -51,12 +51,12 @@ public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChan
 
     /** {@inheritDoc} */
     @Override
-    public String getSelectedChannelColorEntry ()
+    public DAWColor getSelectedChannelColor ()
     {
         final T sel = this.getSelectedItem ();
         if (sel == null)
-            return DAWColor.COLOR_OFF.name ();
-        return DAWColor.getColorIndex (sel.getColor ());
+            return DAWColor.COLOR_OFF;
+        return DAWColor.getDAWColor (sel.getColor ());
     }
 
 
@@ -80,12 +80,12 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
 
     /** {@inheritDoc} */
     @Override
-    public String getSelectedChannelColorEntry ()
+    public DAWColor getSelectedChannelColor ()
     {
         final ILayer sel = this.getSelectedItem ();
         if (sel == null)
-            return DAWColor.COLOR_OFF.name ();
-        return DAWColor.getColorIndex (sel.getColor ());
+            return DAWColor.COLOR_OFF;
+        return DAWColor.getDAWColor (sel.getColor ());
     }
 
 
@@ -151,6 +151,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void requestFlush ()
+    {
+        this.host.requestFlush ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
@@ -190,10 +198,10 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxDatagramSize, final int maxBytesPerSecond)
     {
         final OscModule oscModule = this.host.getOscModule ();
-        return new OpenSoundControlClientImpl (oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()));
+        return new OpenSoundControlClientImpl (this, oscModule.connectToUdpServer (serverAddress, serverPort, oscModule.createAddressSpace ()), maxDatagramSize, maxBytesPerSecond);
     }
 
 
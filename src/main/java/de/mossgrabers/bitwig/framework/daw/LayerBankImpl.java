@@ -94,12 +94,12 @@ public class LayerBankImpl extends AbstractChannelBankImpl<DeviceLayerBank, ILay
 
     /** {@inheritDoc} */
     @Override
-    public String getSelectedChannelColorEntry ()
+    public DAWColor getSelectedChannelColor ()
     {
         final ILayer sel = this.getSelectedItem ();
         if (sel == null)
-            return DAWColor.COLOR_OFF.name ();
-        return DAWColor.getColorIndex (sel.getColor ());
+            return DAWColor.COLOR_OFF;
+        return DAWColor.getDAWColor (sel.getColor ());
     }
 
 
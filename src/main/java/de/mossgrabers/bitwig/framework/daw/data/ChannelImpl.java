@@ -90,6 +90,25 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void observeChanges ()
+    {
+        if (this.deviceChain == null)
+            return;
+
+        this.deviceChain.exists ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.deviceChain.name ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.deviceChain.isActivated ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.deviceChain.mute ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.deviceChain.solo ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.deviceChain.color ().addValueObserver ( (red, green, blue) -> this.notifyChangeObservers ());
+
+        this.volumeParameter.addChangeObserver (index -> this.notifyChangeObservers ());
+        this.panParameter.addChangeObserver (index -> this.notifyChangeObservers ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean doesExist ()
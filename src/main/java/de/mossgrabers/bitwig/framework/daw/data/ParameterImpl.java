@@ -57,6 +57,18 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void observeChanges ()
+    {
+        this.parameter.exists ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.parameter.name ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.parameter.displayedValue ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.parameter.value ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.parameter.modulatedValue ().addValueObserver (value -> this.notifyChangeObservers ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void inc (final double increment)
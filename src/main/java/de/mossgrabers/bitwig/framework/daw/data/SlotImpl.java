@@ -73,6 +73,24 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void observeChanges ()
+    {
+        this.slot.exists ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.sceneIndex ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.name ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.hasContent ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.color ().addValueObserver ( (red, green, blue) -> this.notifyChangeObservers ());
+        this.slot.isPlaying ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.isPlaybackQueued ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.isRecording ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.isRecordingQueued ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.isStopQueued ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.slot.isSelected ().addValueObserver (value -> this.notifyChangeObservers ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean doesExist ()
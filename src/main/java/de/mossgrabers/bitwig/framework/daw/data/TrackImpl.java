@@ -120,6 +120,26 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void observeChanges ()
+    {
+        super.observeChanges ();
+
+        this.track.trackType ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.position ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.isGroup ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.arm ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.monitor ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.autoMonitor ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.crossFadeMode ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.canHoldNoteData ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.canHoldAudioData ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.track.isStopped ().addValueObserver (value -> this.notifyChangeObservers ());
+        this.isTopGroup.addValueObserver (value -> this.notifyChangeObservers ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enter ()
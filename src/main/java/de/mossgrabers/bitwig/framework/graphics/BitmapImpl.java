@@ -11,6 +11,7 @@ import de.mossgrabers.framework.graphics.IRenderer;
 import com.bitwig.extension.api.graphics.Bitmap;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -20,7 +21,9 @@ import java.nio.ByteBuffer;
  */
 public class BitmapImpl implements IBitmap
 {
-    private Bitmap bitmap;
+    private final AtomicLong       generation  = new AtomicLong ();
+    private final TextMetricsCache textMetrics = new TextMetricsCache ();
+    private Bitmap                 bitmap;
 
 
     /**
@@ -54,7 +57,16 @@ public class BitmapImpl implements IBitmap
     @Override
     public void render (final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (gc, this.textMetrics)));
+        this.generation.incrementAndGet ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        return this.generation.get ();
     }
 
 
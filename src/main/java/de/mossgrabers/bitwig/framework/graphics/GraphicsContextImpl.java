@@ -21,18 +21,21 @@ import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private GraphicsOutput gc;
+    private GraphicsOutput         gc;
+    private final TextMetricsCache textMetrics;
 
 
     /**
      * Constructor.
      *
      * @param gc The Bitwig graphics context
+     * @param textMetrics The cache for text extents and font sizes
      */
-    public GraphicsContextImpl (final GraphicsOutput gc)
+    public GraphicsContextImpl (final GraphicsOutput gc, final TextMetricsCache textMetrics)
     {
         gc.setAntialias (AntialiasMode.BEST);
         this.gc = gc;
+        this.textMetrics = textMetrics;
     }
 
 
@@ -156,8 +159,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (text).getWidth ();
+        final double h = this.textMetrics.getTextHeight (this.gc, "T", fontSize);
+        final double w = this.textMetrics.getTextWidth (this.gc, text, fontSize);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -198,12 +201,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.textMetrics.getTextHeight (this.gc, "T", fontSize);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (text).getWidth ();
+            final double w = this.textMetrics.getTextWidth (this.gc, text, fontSize);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -237,18 +240,26 @@ public class GraphicsContextImpl implements IGraphicsContext
     @Override
     public double calculateFontSize (final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
     {
-        double size = minimumFontSize;
-        double fittingSize = -1;
-        while (size < maxHeight)
-        {
-            this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (text).getWidth ();
-            if (width > maxWidth)
-                break;
-            fittingSize = size;
-            size += 1.0;
-        }
-        return fittingSize;
+        return this.textMetrics.calculateFontSize (this.gc, text, maxHeight, maxWidth, minimumFontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.save ();
+        this.gc.rectangle (left, top, Math.max (0, width), Math.max (0, height));
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
+        this.gc.restore ();
     }
 
 
@@ -0,0 +1,202 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.graphics;
+
+import com.bitwig.extension.api.graphics.GraphicsOutput;
+import com.bitwig.extension.api.graphics.TextExtents;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the extents of texts and calculated font sizes. Since the displays show mostly the same
+ * texts on each frame, measuring them again with the graphics output can be avoided. The least
+ * recently used entries are removed if the cache gets too large.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextMetricsCache
+{
+    private static final int                 MAX_ENTRIES = 2000;
+
+    private final Map<MetricsKey, double []> extents     = new LruMap<> ();
+    private final Map<MetricsKey, Double>    fontSizes   = new LruMap<> ();
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param gc The graphics output to use for measuring
+     * @param text The text
+     * @param fontSize The font size
+     * @return The width of the text
+     */
+    public double getTextWidth (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        return this.getExtents (gc, text, fontSize)[0];
+    }
+
+
+    /**
+     * Get the height of a text.
+     *
+     * @param gc The graphics output to use for measuring
+     * @param text The text
+     * @param fontSize The font size
+     * @return The height of the text
+     */
+    public double getTextHeight (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        return this.getExtents (gc, text, fontSize)[1];
+    }
+
+
+    /**
+     * Calculates the maximum font size of a text which needs to fit into a width. The font size is
+     * increased by steps of 1 starting from the minimum font size. Since the width of a text grows
+     * with the font size, the size is found by a binary search.
+     *
+     * @param gc The graphics output to use for measuring
+     * @param text The text
+     * @param maxHeight The maximum height of the text
+     * @param maxWidth The maximum width
+     * @param minimumFontSize The minimum font size to return
+     * @return The font size or -1 if the minimum font size does not fit into the width
+     */
+    public double calculateFontSize (final GraphicsOutput gc, final String text, final double maxHeight, final double maxWidth, final double minimumFontSize)
+    {
+        final MetricsKey key = new MetricsKey (text, maxHeight, maxWidth, minimumFontSize);
+        final Double cachedSize = this.fontSizes.get (key);
+        if (cachedSize != null)
+            return cachedSize.doubleValue ();
+
+        double fittingSize = -1;
+        final int numSizes = (int) Math.ceil (maxHeight - minimumFontSize);
+        if (numSizes > 0 && this.getTextWidth (gc, text, minimumFontSize) <= maxWidth)
+        {
+            int low = 0;
+            int high = numSizes - 1;
+            while (low < high)
+            {
+                final int middle = (low + high + 1) / 2;
+                if (this.getTextWidth (gc, text, minimumFontSize + middle) <= maxWidth)
+                    low = middle;
+                else
+                    high = middle - 1;
+            }
+            fittingSize = minimumFontSize + low;
+        }
+
+        this.fontSizes.put (key, Double.valueOf (fittingSize));
+        return fittingSize;
+    }
+
+
+    private double [] getExtents (final GraphicsOutput gc, final String text, final double fontSize)
+    {
+        final MetricsKey key = new MetricsKey (text, fontSize, 0, 0);
+        double [] result = this.extents.get (key);
+        if (result == null)
+        {
+            gc.setFontSize (fontSize);
+            final TextExtents textExtents = gc.getTextExtents (text);
+            result = new double []
+            {
+                textExtents.getWidth (),
+                textExtents.getHeight ()
+            };
+            this.extents.put (key, result);
+        }
+        return result;
+    }
+
+
+    /**
+     * A map which removes the least recently accessed entry if there are more than MAX_ENTRIES.
+     *
+     * @param <K> The type of the keys
+     * @param <V> The type of the values
+     */
+    private static class LruMap<K, V> extends LinkedHashMap<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+
+        /**
+         * Constructor.
+         */
+        public LruMap ()
+        {
+            super (MAX_ENTRIES, 0.75f, true);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected boolean removeEldestEntry (final Map.Entry<K, V> eldest)
+        {
+            return this.size () > MAX_ENTRIES;
+        }
+    }
+
+
+    /**
+     * Key for a text and up to 3 numeric parameters.
+     */
+    private static class MetricsKey
+    {
+        private final String text;
+        private final double param1;
+        private final double param2;
+        private final double param3;
+
+
+        /**
+         * Constructor.
+         *
+         * @param text The text
+         * @param param1 The first parameter
+         * @param param2 The second parameter
+         * @param param3 The third parameter
+         */
+        public MetricsKey (final String text, final double param1, final double param2, final double param3)
+        {
+            this.text = text;
+            this.param1 = param1;
+            this.param2 = param2;
+            this.param3 = param3;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + Double.hashCode (this.param1);
+            result = prime * result + Double.hashCode (this.param2);
+            result = prime * result + Double.hashCode (this.param3);
+            result = prime * result + (this.text == null ? 0 : this.text.hashCode ());
+            return result;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (obj == null || this.getClass () != obj.getClass ())
+                return false;
+            final MetricsKey other = (MetricsKey) obj;
+            if (Double.doubleToLongBits (this.param1) != Double.doubleToLongBits (other.param1) || Double.doubleToLongBits (this.param2) != Double.doubleToLongBits (other.param2) || Double.doubleToLongBits (this.param3) != Double.doubleToLongBits (other.param3))
+                return false;
+            return this.text == null ? other.text == null : this.text.equals (other.text);
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class EncodedColorLightState extends InternalHardwareLightState
 {
     private final int                  encodedColorState;
     private final IntFunction<ColorEx> stateToColorFunction;
+    private final LightStateCache      cache;
+    private HardwareLightVisualState   visualState;
 
 
     /**
@@ -30,17 +32,38 @@ public class EncodedColorLightState extends InternalHardwareLightState
      * @param encodedColorState The color and blink information
      * @param stateToColorFunction Convert the state of the light to a color, which can be displayed
      *            in the simulated GUI
+     * @param cache The cache for the visual states
      */
-    public EncodedColorLightState (final int encodedColorState, final IntFunction<ColorEx> stateToColorFunction)
+    public EncodedColorLightState (final int encodedColorState, final IntFunction<ColorEx> stateToColorFunction, final LightStateCache cache)
     {
         this.encodedColorState = encodedColorState;
         this.stateToColorFunction = stateToColorFunction;
+        this.cache = cache;
+    }
+
+
+    /**
+     * Get the encoded color and blink information.
+     *
+     * @return The encoded state
+     */
+    public int getEncodedColorState ()
+    {
+        return this.encodedColorState;
     }
 
 
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    private HardwareLightVisualState createVisualState ()
     {
         if (this.encodedColorState == -1)
             return HardwareLightVisualState.createForColor (Color.blackColor (), Color.whiteColor ());
@@ -50,20 +73,9 @@ public class EncodedColorLightState extends InternalHardwareLightState
         final boolean blinkFast = (this.encodedColorState >> 16 & 1) > 0;
 
         final ColorEx colorEx = this.stateToColorFunction.apply (colorIndex);
-        final Color color = Color.fromRGB (colorEx.getRed (), colorEx.getGreen (), colorEx.getBlue ());
-        final ColorEx contrastColorEx = ColorEx.calcContrastColor (colorEx);
-        final Color contrastColor = Color.fromRGB (contrastColorEx.getRed (), contrastColorEx.getGreen (), contrastColorEx.getBlue ());
-
         if (blinkColorIndex <= 0 || blinkColorIndex >= 128)
-            return HardwareLightVisualState.createForColor (color, contrastColor);
-
-        final ColorEx blinkColorEx = this.stateToColorFunction.apply (blinkColorIndex);
-        final Color blinkColor = Color.fromRGB (blinkColorEx.getRed (), blinkColorEx.getGreen (), blinkColorEx.getBlue ());
-        final ColorEx contrastBlinkColorEx = ColorEx.calcContrastColor (blinkColorEx);
-        final Color contrastBlinkColor = Color.fromRGB (contrastBlinkColorEx.getRed (), contrastBlinkColorEx.getGreen (), contrastBlinkColorEx.getBlue ());
-
-        final double blinkTimeInSec = blinkFast ? 0.5 : 1;
-        return HardwareLightVisualState.createBlinking (blinkColor, color, contrastBlinkColor, contrastColor, blinkTimeInSec, blinkTimeInSec);
+            return this.cache.getVisualState (colorEx, null, false);
+        return this.cache.getVisualState (colorEx, this.stateToColorFunction.apply (blinkColorIndex), blinkFast);
     }
 
 
@@ -45,8 +45,9 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 {
     private final HostImpl        host;
     private final HardwareSurface hardwareSurface;
+    private final LightStateCache lightStateCache = new LightStateCache ();
 
-    private int                   lightCounter = 0;
+    private int                   lightCounter    = 0;
 
 
     /**
@@ -82,7 +83,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         final String id = createID (surfaceID, outputID == null ? "LIGHT" + this.lightCounter : outputID.name ());
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
-        final Supplier<? extends InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final Supplier<? extends InternalHardwareLightState> valueSupplier = this.lightStateCache.createSupplier (supplier);
         final Consumer<? extends InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -101,7 +102,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<? extends InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        final Supplier<? extends InternalHardwareLightState> valueSupplier = this.lightStateCache.createSupplier (supplier, stateToColorFunction);
         final Consumer<? extends InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import com.bitwig.extension.api.Color;
+import com.bitwig.extension.controller.api.HardwareLightVisualState;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+
+/**
+ * Caches the states of the lights of a surface. The lights are polled on each flush but their
+ * states rarely change. Therefore, the state of a light is re-used as long as its value does not
+ * change. The visual states are shared by all lights which display the same colors.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LightStateCache
+{
+    private final Map<Long, HardwareLightVisualState> visualStates = new HashMap<> ();
+
+
+    /**
+     * Create a supplier for the state of a light with encoded colors. The supplier returns the same
+     * state instance as long as the encoded value does not change.
+     *
+     * @param supplier Supplies the encoded color and blink state
+     * @param stateToColorFunction Convert the state of the light to a color
+     * @return The state supplier
+     */
+    public Supplier<EncodedColorLightState> createSupplier (final IntSupplier supplier, final IntFunction<ColorEx> stateToColorFunction)
+    {
+        return new EncodedStateSupplier (supplier, stateToColorFunction);
+    }
+
+
+    /**
+     * Create a supplier for the state of a light with a raw color. The supplier returns the same
+     * state instance as long as the color does not change.
+     *
+     * @param supplier Supplies the color
+     * @return The state supplier
+     */
+    public Supplier<RawColorLightState> createSupplier (final Supplier<ColorEx> supplier)
+    {
+        return new RawStateSupplier (supplier);
+    }
+
+
+    /**
+     * Get the visual state for a color.
+     *
+     * @param color The color
+     * @param blinkColor The blink color, null if the light does not blink
+     * @param fast True for fast blinking
+     * @return The visual state
+     */
+    public HardwareLightVisualState getVisualState (final ColorEx color, final ColorEx blinkColor, final boolean fast)
+    {
+        long key = color.encode ();
+        if (blinkColor != null)
+            key |= (long) blinkColor.encode () << 24 | (fast ? 3L : 1L) << 48;
+
+        synchronized (this.visualStates)
+        {
+            return this.visualStates.computeIfAbsent (Long.valueOf (key), k -> createVisualState (color, blinkColor, fast));
+        }
+    }
+
+
+    private static HardwareLightVisualState createVisualState (final ColorEx colorEx, final ColorEx blinkColorEx, final boolean fast)
+    {
+        final Color color = toColor (colorEx);
+        final Color contrastColor = toColor (ColorEx.calcContrastColor (colorEx));
+        if (blinkColorEx == null)
+            return HardwareLightVisualState.createForColor (color, contrastColor);
+
+        final Color blinkColor = toColor (blinkColorEx);
+        final Color contrastBlinkColor = toColor (ColorEx.calcContrastColor (blinkColorEx));
+        final double blinkTimeInSec = fast ? 0.5 : 1;
+        return HardwareLightVisualState.createBlinking (blinkColor, color, contrastBlinkColor, contrastColor, blinkTimeInSec, blinkTimeInSec);
+    }
+
+
+    private static Color toColor (final ColorEx colorEx)
+    {
+        return Color.fromRGB (colorEx.getRed (), colorEx.getGreen (), colorEx.getBlue ());
+    }
+
+
+    /**
+     * Re-uses the last state as long as the encoded value does not change.
+     */
+    private class EncodedStateSupplier implements Supplier<EncodedColorLightState>
+    {
+        private final IntSupplier          supplier;
+        private final IntFunction<ColorEx> stateToColorFunction;
+        private EncodedColorLightState     lastState;
+
+
+        /**
+         * Constructor.
+         *
+         * @param supplier Supplies the encoded color and blink state
+         * @param stateToColorFunction Convert the state of the light to a color
+         */
+        public EncodedStateSupplier (final IntSupplier supplier, final IntFunction<ColorEx> stateToColorFunction)
+        {
+            this.supplier = supplier;
+            this.stateToColorFunction = stateToColorFunction;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public EncodedColorLightState get ()
+        {
+            final int encodedColorState = this.supplier.getAsInt ();
+            EncodedColorLightState state = this.lastState;
+            if (state == null || state.getEncodedColorState () != encodedColorState)
+            {
+                state = new EncodedColorLightState (encodedColorState, this.stateToColorFunction, LightStateCache.this);
+                this.lastState = state;
+            }
+            return state;
+        }
+    }
+
+
+    /**
+     * Re-uses the last state as long as the color does not change.
+     */
+    private class RawStateSupplier implements Supplier<RawColorLightState>
+    {
+        private final Supplier<ColorEx> supplier;
+        private RawColorLightState      lastState;
+
+
+        /**
+         * Constructor.
+         *
+         * @param supplier Supplies the color
+         */
+        public RawStateSupplier (final Supplier<ColorEx> supplier)
+        {
+            this.supplier = supplier;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public RawColorLightState get ()
+        {
+            final ColorEx color = this.supplier.get ();
+            RawColorLightState state = this.lastState;
+            if (state == null || state.getEncodedColor () != color.encode ())
+            {
+                state = new RawColorLightState (color, LightStateCache.this);
+                this.lastState = state;
+            }
+            return state;
+        }
+    }
+}
@@ -6,7 +6,6 @@ package de.mossgrabers.bitwig.framework.hardware;
 
 import de.mossgrabers.framework.controller.color.ColorEx;
 
-import com.bitwig.extension.api.Color;
 import com.bitwig.extension.controller.api.HardwareLightVisualState;
 import com.bitwig.extension.controller.api.InternalHardwareLightState;
 
@@ -18,17 +17,34 @@ import com.bitwig.extension.controller.api.InternalHardwareLightState;
  */
 public class RawColorLightState extends InternalHardwareLightState
 {
-    private final ColorEx colorState;
+    private final ColorEx            colorState;
+    private final int                encodedColor;
+    private final LightStateCache    cache;
+    private HardwareLightVisualState visualState;
 
 
     /**
      * Constructor.
      *
      * @param colorState The color that represents the lighting state of the LED
+     * @param cache The cache for the visual states
      */
-    public RawColorLightState (final ColorEx colorState)
+    public RawColorLightState (final ColorEx colorState, final LightStateCache cache)
     {
         this.colorState = colorState;
+        this.encodedColor = colorState.encode ();
+        this.cache = cache;
+    }
+
+
+    /**
+     * Get the encoded color.
+     *
+     * @return The color encoded as RGB bytes
+     */
+    public int getEncodedColor ()
+    {
+        return this.encodedColor;
     }
 
 
@@ -36,10 +52,9 @@ public class RawColorLightState extends InternalHardwareLightState
     @Override
     public HardwareLightVisualState getVisualState ()
     {
-        final Color color = Color.fromRGB (this.colorState.getRed (), this.colorState.getGreen (), this.colorState.getBlue ());
-        final ColorEx contrastColorEx = ColorEx.calcContrastColor (this.colorState);
-        final Color contrastColor = Color.fromRGB (contrastColorEx.getRed (), contrastColorEx.getGreen (), contrastColorEx.getBlue ());
-        return HardwareLightVisualState.createForColor (color, contrastColor);
+        if (this.visualState == null)
+            this.visualState = this.cache.getVisualState (this.colorState, null, false);
+        return this.visualState;
     }
 
 
@@ -49,7 +64,7 @@ public class RawColorLightState extends InternalHardwareLightState
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + this.colorState.encode ();
+        result = prime * result + this.encodedColor;
         return result;
     }
 
@@ -65,6 +80,6 @@ public class RawColorLightState extends InternalHardwareLightState
         if (this.getClass () != obj.getClass ())
             return false;
         final RawColorLightState other = (RawColorLightState) obj;
-        return this.colorState.encode () == other.colorState.encode ();
+        return this.encodedColor == other.encodedColor;
     }
 }
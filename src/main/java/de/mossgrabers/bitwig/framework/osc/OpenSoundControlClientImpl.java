@@ -4,8 +4,10 @@
 
 package de.mossgrabers.bitwig.framework.osc;
 
+import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.OpenSoundControlSender;
 
 import com.bitwig.extension.api.opensoundcontrol.OscConnection;
 
@@ -14,23 +16,30 @@ import java.util.List;
 
 
 /**
- * Implementation of an OSC server connection (the client).
+ * Implementation of an OSC server connection (the client). The messages are sent with a limited
+ * rate. Since the Bitwig API is not thread-safe, they are sent from the thread of the host and
+ * the messages which exceed the rate are sent later from a scheduled task.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class OpenSoundControlClientImpl implements IOpenSoundControlClient
 {
-    private OscConnection connection;
+    private final OscConnection          connection;
+    private final OpenSoundControlSender sender;
 
 
     /**
      * Constructor.
      *
+     * @param host The host
      * @param connection The OSC connection
+     * @param maxDatagramSize The maximum size of the UDP datagrams to send
+     * @param maxBytesPerSecond The maximum number of bytes to send per second, 0 for no limit
      */
-    public OpenSoundControlClientImpl (final OscConnection connection)
+    public OpenSoundControlClientImpl (final IHost host, final OscConnection connection, final int maxDatagramSize, final int maxBytesPerSecond)
     {
         this.connection = connection;
+        this.sender = new OpenSoundControlSender (host, this::sendDatagram, maxDatagramSize, maxBytesPerSecond, false);
     }
 
 
@@ -38,9 +47,7 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendMessage (final IOpenSoundControlMessage message) throws IOException
     {
-        final String address = message.getAddress ();
-        final Object [] values = message.getValues ();
-        this.connection.sendMessage (address, values);
+        this.sender.sendMessage (message);
     }
 
 
@@ -48,33 +55,49 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
-        this.connection.startBundle ();
+        this.sender.sendBundle (messages);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentBytes ()
+    {
+        return this.sender.getSentBytes ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentDatagrams ()
+    {
+        return this.sender.getSentDatagrams ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        // The connection is released by Bitwig but the waiting messages need to be sent
+        this.sender.shutdown ();
+    }
+
+
+    /**
+     * Send messages in one datagram. Called from the thread of the host.
+     *
+     * @param messages The messages
+     * @param isBundle True to send the messages as a bundle
+     * @throws IOException Could not send the messages
+     */
+    private void sendDatagram (final List<IOpenSoundControlMessage> messages, final boolean isBundle) throws IOException
+    {
+        if (isBundle)
+            this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
-        {
-            this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
-            {
-                pos = 0;
-                this.connection.endBundle ();
-
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
-                {
-                    Thread.sleep (10);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
-                }
-
-                this.connection.startBundle ();
-            }
-        }
-        this.connection.endBundle ();
+            this.connection.sendMessage (message.getAddress (), message.getValues ());
+        if (isBundle)
+            this.connection.endBundle ();
     }
 }
@@ -38,4 +38,12 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     {
         this.server.start (port);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        // The server is released by Bitwig
+    }
 }
@@ -50,7 +50,7 @@ public class APCPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int translateToGrid (final int note)
+    protected int mapToGrid (final int note)
     {
         return note + 36;
     }
@@ -58,7 +58,7 @@ public class APCPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    protected int [] mapToController (final int note)
     {
         final int n = note - 36;
 
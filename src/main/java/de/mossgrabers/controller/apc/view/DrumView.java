@@ -8,7 +8,6 @@ import de.mossgrabers.controller.apc.APCConfiguration;
 import de.mossgrabers.controller.apc.controller.APCControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -36,9 +35,9 @@ public class DrumView extends AbstractDrumView<APCControlSurface, APCConfigurati
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return this.surface.isMkII () ? DAWColor.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.surface.isMkII () ? super.getPadContentColor (drumPad) : AbstractDrumView.TOKEN_PAD_HAS_CONTENT;
     }
 
 
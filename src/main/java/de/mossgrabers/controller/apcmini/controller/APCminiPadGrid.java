@@ -46,7 +46,7 @@ public class APCminiPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int translateToGrid (final int note)
+    protected int mapToGrid (final int note)
     {
         return note + 36;
     }
@@ -54,7 +54,7 @@ public class APCminiPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    protected int [] mapToController (final int note)
     {
         return new int []
         {
@@ -91,7 +91,7 @@ public class BrowserView extends AbstractView<APCminiControlSurface, APCminiConf
             return;
         }
 
-        int n = this.surface.getPadGrid ().translateToController (note)[1];
+        int n = this.surface.getPadGrid ().translateToControllerNote (note);
         switch (n)
         {
             // Cancel
@@ -36,9 +36,9 @@ public class DrumView extends AbstractDrumView<APCminiControlSurface, APCminiCon
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return AbstractDrumView.TOKEN_PAD_HAS_CONTENT;
     }
 
 
@@ -139,7 +139,7 @@ public class ShiftView extends AbstractView<APCminiControlSurface, APCminiConfig
             return;
 
         final ICursorDevice cursorDevice = this.model.getCursorDevice ();
-        final int n = this.surface.getPadGrid ().translateToController (note)[1];
+        final int n = this.surface.getPadGrid ().translateToControllerNote (note);
         switch (n)
         {
             // Flip views
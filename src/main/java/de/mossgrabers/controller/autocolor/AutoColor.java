@@ -8,26 +8,29 @@ import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
 
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map.Entry;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.Map;
 
 
 /**
  * Extension for auto coloring tracks. In the settings of the script you can set a search string for
  * each color. E.g. if you write 'Bass' after the color red all tracks, which contain the word
  * 'Bass' in their name will automatically be colored in red. For multiple search strings use a
- * comma, e.g. I put 'Drum,BD,Snare,HiHat,Crash' after blue.
+ * comma, e.g. I put 'Drum,BD,Snare,HiHat,Crash' after blue. If a track name contains search
+ * strings of several colors, the color which comes last in the list of colors is applied.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class AutoColor
 {
-    private final EnumMap<DAWColor, List<Pattern>> colorRegex = new EnumMap<> (DAWColor.class);
-    private final AutoColorConfiguration           configuration;
-    private ITrackBank                             trackBank;
+    private static final DAWColor []     COLORS           = DAWColor.values ();
+    private static final int             MAX_CACHED_NAMES = 1000;
+
+    private final String [][]            keywords         = new String [COLORS.length][];
+    private final Map<String, Integer>   matches          = new HashMap<> ();
+    private final AutoColorConfiguration configuration;
+    private KeywordMatcher               matcher          = new KeywordMatcher (this.keywords);
+    private ITrackBank                   trackBank;
 
 
     /**
@@ -42,7 +45,7 @@ public class AutoColor
 
 
     /**
-     * Handle the change of a substring for a color.
+     * Handle the change of a substring for a color. Re-colors the tracks of the page afterwards.
      *
      * @param color The color
      * @param filter The substring
@@ -52,18 +55,23 @@ public class AutoColor
         if (!this.configuration.isEnableAutoColor ())
             return;
 
-        final List<Pattern> patterns = new ArrayList<> ();
+        String [] parts = null;
         if (filter != null && !filter.trim ().isEmpty ())
         {
-            for (final String part: filter.split (","))
-                patterns.add (Pattern.compile (".*" + Pattern.quote (part.trim ()) + ".*"));
+            parts = filter.split (",");
+            for (int i = 0; i < parts.length; i++)
+                parts[i] = parts[i].trim ();
         }
-        synchronized (this.colorRegex)
+
+        synchronized (this.matches)
         {
-            this.colorRegex.put (color, patterns);
-            if (!patterns.isEmpty ())
-                this.updateTracks (color, patterns);
+            this.keywords[color.ordinal ()] = parts;
+            this.matcher = new KeywordMatcher (this.keywords);
+            this.matches.clear ();
         }
+
+        if (parts != null)
+            this.matchTracks ();
     }
 
 
@@ -76,63 +84,72 @@ public class AutoColor
     public void matchTrackName (final int channelIndex, final String trackName)
     {
         if (this.configuration.isEnableAutoColor () && !trackName.trim ().isEmpty ())
-            this.matchColorsToTrack (this.trackBank.getItem (channelIndex), trackName);
+            matchColorToTrack (this.trackBank.getItem (channelIndex), this.getMatchingColor (trackName));
     }
 
 
     /**
-     * Updates all tracks (in the page) for a color.
-     *
-     * @param color The color to match for
-     * @param patterns The patterns to match
+     * Check the names of all tracks of the page against all substrings.
      */
-    private void updateTracks (final DAWColor color, final List<Pattern> patterns)
+    public void matchTracks ()
     {
-        for (int i = 0; i < this.trackBank.getPageSize (); i++)
+        if (!this.configuration.isEnableAutoColor ())
+            return;
+
+        final int pageSize = this.trackBank.getPageSize ();
+        final ITrack [] tracks = new ITrack [pageSize];
+        final DAWColor [] colors = new DAWColor [pageSize];
+        synchronized (this.matches)
         {
-            final ITrack track = this.trackBank.getItem (i);
-            matchColorToTrack (track, track.getName (), color, patterns);
+            for (int i = 0; i < pageSize; i++)
+            {
+                tracks[i] = this.trackBank.getItem (i);
+                final String trackName = tracks[i].getName ();
+                colors[i] = trackName.trim ().isEmpty () ? null : this.getMatchingColor (trackName);
+            }
         }
+        for (int i = 0; i < pageSize; i++)
+            matchColorToTrack (tracks[i], colors[i]);
     }
 
 
     /**
-     * Tests a track against all color patterns.
+     * Get the color whose substrings are contained in the name of a track. The results are cached
+     * until a substring changes.
      *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
+     * @param trackName The name of the track (the track name of the track might not yet been
      *            updated)
+     * @return The color or null if there is no matching substring
      */
-    private void matchColorsToTrack (final ITrack track, final String trackName)
+    private DAWColor getMatchingColor (final String trackName)
     {
-        synchronized (this.colorRegex)
+        synchronized (this.matches)
         {
-            for (final Entry<DAWColor, List<Pattern>> e: this.colorRegex.entrySet ())
-                matchColorToTrack (track, trackName, e.getKey (), e.getValue ());
+            Integer index = this.matches.get (trackName);
+            if (index == null)
+            {
+                // Track names change while typing, prevent the cache from growing endlessly
+                if (this.matches.size () >= MAX_CACHED_NAMES)
+                    this.matches.clear ();
+                index = Integer.valueOf (this.matcher.match (trackName));
+                this.matches.put (trackName, index);
+            }
+            final int colorIndex = index.intValue ();
+            return colorIndex == KeywordMatcher.NO_MATCH ? null : COLORS[colorIndex];
         }
     }
 
 
     /**
-     * Tests a track for all given patterns and assigns the given color if it matches one of the
-     * patterns.
+     * Assigns the given color to a track.
      *
-     * @param track The track to test
-     * @param trackName The name of the track (the track name of the track might not yet beend
-     *            updated)
-     * @param color The color to apply
-     * @param patterns The pattern to test against
+     * @param track The track to color
+     * @param color The color to apply, nothing is changed if null
      */
-    private static void matchColorToTrack (final ITrack track, final String trackName, final DAWColor color, final List<Pattern> patterns)
+    private static void matchColorToTrack (final ITrack track, final DAWColor color)
     {
-        for (final Pattern pattern: patterns)
-        {
-            if (pattern.matcher (trackName).matches ())
-            {
-                track.setColor (color.getColor ());
-                break;
-            }
-        }
+        if (color != null)
+            track.setColor (color.getColor ());
     }
 
 
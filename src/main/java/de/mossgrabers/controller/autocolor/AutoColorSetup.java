@@ -99,13 +99,7 @@ public class AutoColorSetup extends AbstractControllerSetup<IControlSurface<Auto
     protected void createObservers ()
     {
         // Update track colors if Auto Color is enabled in the settings
-        this.configuration.addSettingObserver (AutoColorConfiguration.ENABLE_AUTO_COLOR, () -> {
-            if (!this.configuration.isEnableAutoColor ())
-                return;
-            final ITrackBank tb = this.model.getTrackBank ();
-            for (int i = 0; i < tb.getPageSize (); i++)
-                this.autoColor.matchTrackName (i, tb.getItem (i).getName ());
-        });
+        this.configuration.addSettingObserver (AutoColorConfiguration.ENABLE_AUTO_COLOR, this.autoColor::matchTracks);
 
         // Monitor all color regex settings
         final DAWColor [] colors = DAWColor.values ();
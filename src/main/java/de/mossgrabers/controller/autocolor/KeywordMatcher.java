@@ -0,0 +1,167 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.autocolor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+
+/**
+ * Searches a text for several keywords at once. The keywords are compiled into an Aho-Corasick
+ * automaton, which finds all of them in a single pass over the text. Each keyword has a priority
+ * and the highest priority of all keywords contained in the text is returned. The search is case
+ * sensitive. An empty keyword is contained in every text. Instances are immutable.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class KeywordMatcher
+{
+    /** The result if no keyword is contained in a text. */
+    public static final int NO_MATCH = -1;
+
+    // The characters of the transitions of each state, sorted for a binary search
+    private final char [][] labels;
+    // The target states of the transitions
+    private final int [][]  targets;
+    // The state to continue with if there is no transition for a character
+    private final int []    fail;
+    // The highest priority of the keywords which end in a state, including the keywords which are
+    // a suffix of the state
+    private final int []    priorities;
+    private final int       maxPriority;
+
+
+    /**
+     * Constructor.
+     *
+     * @param keywords The keywords, the index of the first dimension is the priority of the
+     *            keywords in the second dimension, an entry might be null if there are no keywords
+     *            with that priority
+     */
+    public KeywordMatcher (final String [][] keywords)
+    {
+        final List<Map<Character, Integer>> transitions = new ArrayList<> ();
+        final List<Integer> statePriorities = new ArrayList<> ();
+        transitions.add (new TreeMap<> ());
+        statePriorities.add (Integer.valueOf (NO_MATCH));
+
+        int max = NO_MATCH;
+        for (int priority = 0; priority < keywords.length; priority++)
+        {
+            if (keywords[priority] == null)
+                continue;
+            for (final String keyword: keywords[priority])
+            {
+                int state = 0;
+                for (int i = 0; i < keyword.length (); i++)
+                {
+                    final Character c = Character.valueOf (keyword.charAt (i));
+                    final Integer next = transitions.get (state).get (c);
+                    if (next == null)
+                    {
+                        final int newState = transitions.size ();
+                        transitions.add (new TreeMap<> ());
+                        statePriorities.add (Integer.valueOf (NO_MATCH));
+                        transitions.get (state).put (c, Integer.valueOf (newState));
+                        state = newState;
+                    }
+                    else
+                        state = next.intValue ();
+                }
+                statePriorities.set (state, Integer.valueOf (Math.max (statePriorities.get (state).intValue (), priority)));
+                max = priority;
+            }
+        }
+        this.maxPriority = max;
+
+        final int numStates = transitions.size ();
+        this.labels = new char [numStates][];
+        this.targets = new int [numStates][];
+        this.fail = new int [numStates];
+        this.priorities = new int [numStates];
+        for (int state = 0; state < numStates; state++)
+        {
+            final Map<Character, Integer> stateTransitions = transitions.get (state);
+            final char [] stateLabels = new char [stateTransitions.size ()];
+            final int [] stateTargets = new int [stateTransitions.size ()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> e: stateTransitions.entrySet ())
+            {
+                stateLabels[index] = e.getKey ().charValue ();
+                stateTargets[index] = e.getValue ().intValue ();
+                index++;
+            }
+            this.labels[state] = stateLabels;
+            this.targets[state] = stateTargets;
+            this.priorities[state] = statePriorities.get (state).intValue ();
+        }
+
+        // Calculate the fail states in breadth first order, so the fail states of all shorter
+        // prefixes are already known
+        final Queue<Integer> queue = new ArrayDeque<> ();
+        for (final int target: this.targets[0])
+            queue.add (Integer.valueOf (target));
+        while (!queue.isEmpty ())
+        {
+            final int state = queue.remove ().intValue ();
+            for (int i = 0; i < this.labels[state].length; i++)
+            {
+                final int target = this.targets[state][i];
+                final int failState = this.getNextState (this.fail[state], this.labels[state][i]);
+                this.fail[target] = failState;
+                this.priorities[target] = Math.max (this.priorities[target], this.priorities[failState]);
+                queue.add (Integer.valueOf (target));
+            }
+        }
+    }
+
+
+    /**
+     * Get the highest priority of all keywords which are contained in the text.
+     *
+     * @param text The text to search
+     * @return The priority or NO_MATCH if the text contains no keyword
+     */
+    public int match (final String text)
+    {
+        int result = this.priorities[0];
+        int state = 0;
+        for (int i = 0; i < text.length () && result < this.maxPriority; i++)
+        {
+            state = this.getNextState (state, text.charAt (i));
+            if (this.priorities[state] > result)
+                result = this.priorities[state];
+        }
+        return result;
+    }
+
+
+    /**
+     * Get the state which follows on a character, following the fail states if the state has no
+     * transition for the character.
+     *
+     * @param state The current state
+     * @param c The character
+     * @return The next state
+     */
+    private int getNextState (final int state, final char c)
+    {
+        int s = state;
+        while (true)
+        {
+            final int index = Arrays.binarySearch (this.labels[s], c);
+            if (index >= 0)
+                return this.targets[s][index];
+            if (s == 0)
+                return 0;
+            s = this.fail[s];
+        }
+    }
+}
@@ -66,9 +66,9 @@ public class BeatstepPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    protected int [] mapToController (final int note)
     {
-        final int [] translate = super.translateToController (note);
+        final int [] translate = super.mapToController (note);
         translate[0] = 2;
         return translate;
     }
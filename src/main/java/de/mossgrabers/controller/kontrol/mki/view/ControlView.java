@@ -6,6 +6,7 @@ package de.mossgrabers.controller.kontrol.mki.view;
 
 import de.mossgrabers.controller.kontrol.mki.Kontrol1Configuration;
 import de.mossgrabers.controller.kontrol.mki.controller.Kontrol1ControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ICursorDevice;
@@ -72,7 +73,7 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
 
                 final boolean isRecording = this.model.hasRecordingState ();
                 for (int i = this.scales.getStartNote (); i < this.scales.getEndNote (); i++)
-                    lightGuide.light (i, this.getDrumPadColor (i, primary, isSoloed, isRecording));
+                    lightGuide.lightToken (i, this.getDrumPadColor (i, primary, isSoloed, isRecording));
 
                 return;
             }
@@ -82,19 +83,19 @@ public class ControlView extends AbstractPlayView<Kontrol1ControlSurface, Kontro
     }
 
 
-    protected String getDrumPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    protected int getDrumPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
         // Playing note?
         if (this.keyManager.isKeyPressed (index))
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? AbstractDrumView.TOKEN_PAD_RECORD : AbstractDrumView.TOKEN_PAD_PLAY;
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.TOKEN_PAD_OFF : AbstractDrumView.TOKEN_PAD_NO_CONTENT;
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
-        return DAWColor.getColorIndex (drumPad.getColor ());
+            return AbstractDrumView.TOKEN_PAD_MUTED;
+        return ColorManager.getColorToken (DAWColor.getDAWColor (drumPad.getColor ()));
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
@@ -26,105 +27,106 @@ import java.util.List;
 public class KontrolProtocolControlSurface extends AbstractControlSurface<KontrolProtocolConfiguration>
 {
     /** Command to initialise the protocol handshake (and acknowledge). */
-    public static final int CMD_HELLO                            = 0x01;
+    public static final int    CMD_HELLO                            = 0x01;
     /** Command to stop the protocol. */
-    public static final int CMD_GOODBYE                          = 0x02;
+    public static final int    CMD_GOODBYE                          = 0x02;
 
     /** The play button. */
-    public static final int KONTROL_PLAY                         = 0x10;
+    public static final int    KONTROL_PLAY                         = 0x10;
     /** The restart button (Shift+Play). No LED. */
-    public static final int KONTROL_RESTART                      = 0x11;
+    public static final int    KONTROL_RESTART                      = 0x11;
     /** The record button. */
-    public static final int KONTROL_RECORD                       = 0x12;
+    public static final int    KONTROL_RECORD                       = 0x12;
     /** The count-in button (Shift+Rec). */
-    public static final int KONTROL_COUNT_IN                     = 0x13;
+    public static final int    KONTROL_COUNT_IN                     = 0x13;
     /** The stop button. */
-    public static final int KONTROL_STOP                         = 0x14;
+    public static final int    KONTROL_STOP                         = 0x14;
     /** The clear button. */
-    public static final int KONTROL_CLEAR                        = 0x15;
+    public static final int    KONTROL_CLEAR                        = 0x15;
     /** The loop button. */
-    public static final int KONTROL_LOOP                         = 0x16;
+    public static final int    KONTROL_LOOP                         = 0x16;
     /** The metro button. */
-    public static final int KONTROL_METRO                        = 0x17;
+    public static final int    KONTROL_METRO                        = 0x17;
     /** The tempo button. No LED. */
-    public static final int KONTROL_TAP_TEMPO                    = 0x18;
+    public static final int    KONTROL_TAP_TEMPO                    = 0x18;
 
     /** The undo button. */
-    public static final int KONTROL_UNDO                         = 0x20;
+    public static final int    KONTROL_UNDO                         = 0x20;
     /** The redo button (Shift+Undo). */
-    public static final int KONTROL_REDO                         = 0x21;
+    public static final int    KONTROL_REDO                         = 0x21;
     /** The quantize button. */
-    public static final int KONTROL_QUANTIZE                     = 0x22;
+    public static final int    KONTROL_QUANTIZE                     = 0x22;
     /** The auto button. */
-    public static final int KONTROL_AUTOMATION                   = 0x23;
+    public static final int    KONTROL_AUTOMATION                   = 0x23;
 
     /** Track navigation. */
-    public static final int KONTROL_NAVIGATE_TRACKS              = 0x30;
+    public static final int    KONTROL_NAVIGATE_TRACKS              = 0x30;
     /** Track bank navigation. */
-    public static final int KONTROL_NAVIGATE_BANKS               = 0x31;
+    public static final int    KONTROL_NAVIGATE_BANKS               = 0x31;
     /** Clip navigation. */
-    public static final int KONTROL_NAVIGATE_CLIPS               = 0x32;
+    public static final int    KONTROL_NAVIGATE_CLIPS               = 0x32;
 
     /** Transport navigation. */
-    public static final int KONTROL_NAVIGATE_MOVE_TRANSPORT      = 0x34;
+    public static final int    KONTROL_NAVIGATE_MOVE_TRANSPORT      = 0x34;
     /** Loop navigation. */
-    public static final int KONTROL_NAVIGATE_MOVE_LOOP           = 0x35;
+    public static final int    KONTROL_NAVIGATE_MOVE_LOOP           = 0x35;
 
     /** Track available (actually the type the track, see TrackType). */
-    public static final int KONTROL_TRACK_AVAILABLE              = 0x40;
+    public static final int    KONTROL_TRACK_AVAILABLE              = 0x40;
     /** Name of the Komplete plugin ID on the track, if exists. */
-    public static final int KONTROL_TRACK_INSTANCE               = 0x41;
+    public static final int    KONTROL_TRACK_INSTANCE               = 0x41;
     /** Select a track. */
-    public static final int KONTROL_TRACK_SELECTED               = 0x42;
+    public static final int    KONTROL_TRACK_SELECTED               = 0x42;
     /** Mute a track. */
-    public static final int KONTROL_TRACK_MUTE                   = 0x43;
+    public static final int    KONTROL_TRACK_MUTE                   = 0x43;
     /** Solo a track. */
-    public static final int KONTROL_TRACK_SOLO                   = 0x44;
+    public static final int    KONTROL_TRACK_SOLO                   = 0x44;
     /** Arm a track. */
-    public static final int KONTROL_TRACK_RECARM                 = 0x45;
+    public static final int    KONTROL_TRACK_RECARM                 = 0x45;
     /** Volume of a track. */
-    public static final int KONTROL_TRACK_VOLUME_TEXT            = 0x46;
+    public static final int    KONTROL_TRACK_VOLUME_TEXT            = 0x46;
     /** Panorama of a track. */
-    public static final int KONTROL_TRACK_PAN_TEXT               = 0x47;
+    public static final int    KONTROL_TRACK_PAN_TEXT               = 0x47;
     /** Name of a track. */
-    public static final int KONTROL_TRACK_NAME                   = 0x48;
+    public static final int    KONTROL_TRACK_NAME                   = 0x48;
     /** VU of a track. */
-    public static final int KONTROL_TRACK_VU                     = 0x49;
+    public static final int    KONTROL_TRACK_VU                     = 0x49;
     /** Tracl muted by solo. */
-    public static final int KONTROL_TRACK_MUTED_BY_SOLO          = 0x4A;
+    public static final int    KONTROL_TRACK_MUTED_BY_SOLO          = 0x4A;
 
     /** Change the volume of a track 0x50 - 0x57. */
-    public static final int KONTROL_TRACK_VOLUME                 = 0x50;
+    public static final int    KONTROL_TRACK_VOLUME                 = 0x50;
     /** Change the panorama of a track 0x58 - 0x5F. */
-    public static final int KONTROL_TRACK_PAN                    = 0x58;
+    public static final int    KONTROL_TRACK_PAN                    = 0x58;
 
     /** Play the currently selected clip. */
-    public static final int KONTROL_PLAY_SELECTED_CLIP           = 0x60;
+    public static final int    KONTROL_PLAY_SELECTED_CLIP           = 0x60;
     /** Stop the clip playing on the currently selected track. */
-    public static final int KONTROL_STOP_CLIP                    = 0x61;
+    public static final int    KONTROL_STOP_CLIP                    = 0x61;
     /** Start the currently selected scene. */
-    public static final int KONTROL_PLAY_SCENE                   = 0x62;
+    public static final int    KONTROL_PLAY_SCENE                   = 0x62;
     /** Record Session button pressed. */
-    public static final int KONTROL_RECORD_SESSION               = 0x63;
+    public static final int    KONTROL_RECORD_SESSION               = 0x63;
     /** Increase/decrease volume of selected track. */
-    public static final int KONTROL_CHANGE_SELECTED_TRACK_VOLUME = 0x64;
+    public static final int    KONTROL_CHANGE_SELECTED_TRACK_VOLUME = 0x64;
     /** Increase/decrease pan of selected track. */
-    public static final int KONTROL_CHANGE_SELECTED_TRACK_PAN    = 0x65;
+    public static final int    KONTROL_CHANGE_SELECTED_TRACK_PAN    = 0x65;
     /** Toggle mute of the selected track / Selected track muted. */
-    public static final int KONTROL_SELECTED_TRACK_MUTE          = 0x66;
+    public static final int    KONTROL_SELECTED_TRACK_MUTE          = 0x66;
     /** Toggle solo of the selected track / Selected track soloed. */
-    public static final int KONTROL_SELECTED_TRACK_SOLO          = 0x67;
+    public static final int    KONTROL_SELECTED_TRACK_SOLO          = 0x67;
     /** Selected track available. */
-    public static final int KONTROL_SELECTED_TRACK_AVAILABLE     = 0x68;
+    public static final int    KONTROL_SELECTED_TRACK_AVAILABLE     = 0x68;
     /** Selected track muted by solo. */
-    public static final int KONTROL_SELECTED_TRACK_MUTED_BY_SOLO = 0x69;
+    public static final int    KONTROL_SELECTED_TRACK_MUTED_BY_SOLO = 0x69;
 
-    private final int       requiredVersion;
-    private int             protocolVersion                      = KontrolProtocol.MAX_VERSION;
-    private ValueCache      valueCache                           = new ValueCache ();
-    private final Object    cacheLock                            = new Object ();
-    private final Object    handshakeLock                        = new Object ();
-    private boolean         isConnectedToNIHIA                   = false;
+    private final int          requiredVersion;
+    private int                protocolVersion                      = KontrolProtocol.MAX_VERSION;
+    private ValueCache         valueCache                           = new ValueCache ();
+    private final Object       cacheLock                            = new Object ();
+    private final Object       handshakeLock                        = new Object ();
+    private final SysexBuilder sysexBuilder                         = new SysexBuilder ("F0 00 21 09 00 00 44 43 01 00");
+    private boolean            isConnectedToNIHIA                   = false;
 
 
     /**
@@ -284,14 +286,12 @@ public class KontrolProtocolControlSurface extends AbstractControlSurface<Kontro
                 return;
         }
 
-        final int [] data = new int [3 + info.length];
-        data[0] = stateID;
-        data[1] = value;
-        data[2] = track;
-        for (int i = 0; i < info.length; i++)
-            data[3 + i] = info[i];
-
-        this.output.sendSysex ("F0 00 21 09 00 00 44 43 01 00 " + StringUtils.toHexStr (data) + "F7");
+        final byte [] data;
+        synchronized (this.sysexBuilder)
+        {
+            data = this.sysexBuilder.put7bit (stateID).put7bit (value).put7bit (track).put7bit (info).finish ();
+        }
+        this.output.sendSysex (data);
     }
 
 
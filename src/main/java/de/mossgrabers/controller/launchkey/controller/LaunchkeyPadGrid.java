@@ -50,7 +50,7 @@ public class LaunchkeyPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int translateToGrid (final int note)
+    protected int mapToGrid (final int note)
     {
         if (this.activeView == null)
             return note;
@@ -82,7 +82,7 @@ public class LaunchkeyPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    protected int [] mapToController (final int note)
     {
         return translateToController (this.activeView, note);
     }
@@ -142,5 +142,6 @@ public class LaunchkeyPadGrid extends PadGridImpl
     public void setView (final Views view)
     {
         this.activeView = view;
+        this.clearTranslationTables ();
     }
 }
\ No newline at end of file
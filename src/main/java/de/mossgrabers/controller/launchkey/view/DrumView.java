@@ -9,7 +9,6 @@ import de.mossgrabers.controller.launchkey.controller.LaunchkeyMiniMk3ColorManag
 import de.mossgrabers.controller.launchkey.controller.LaunchkeyMiniMk3ControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -103,7 +102,7 @@ public class DrumView extends AbstractDrumView<LaunchkeyMiniMk3ControlSurface, L
                 for (int x = 0; x < 8; x++)
                 {
                     final int index = 8 * y + x;
-                    padGrid.lightEx (x, 1 - y, this.getPadColor (index, primary, isSoloed, false));
+                    padGrid.lightExToken (x, 1 - y, this.getPadColor (index, primary, isSoloed, false));
                 }
             }
             return;
@@ -148,7 +147,7 @@ public class DrumView extends AbstractDrumView<LaunchkeyMiniMk3ControlSurface, L
         if (!drumPad.doesExist () || !drumPad.isActivated ())
             return LaunchkeyMiniMk3ColorManager.LAUNCHKEY_COLOR_BLACK;
 
-        return this.model.getColorManager ().getColorIndex (DAWColor.getColorIndex (drumPad.getColor ()));
+        return this.model.getColorManager ().getDAWColorIndex (drumPad.getColor ());
     }
 
 
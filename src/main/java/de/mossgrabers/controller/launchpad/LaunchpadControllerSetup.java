@@ -65,7 +65,6 @@ import de.mossgrabers.framework.controller.OutputID;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.controller.valuechanger.DefaultValueChanger;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IParameterBank;
@@ -323,7 +322,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         surface.createLight (OutputID.LED1, () -> {
 
             final ITrack track = this.model.getSelectedTrack ();
-            return track != null && track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+            return track != null && track.doesExist () ? this.colorManager.getDAWColorIndex (track.getColor ()) : 0;
 
         }, color -> this.definition.setLogoColor (surface, color), state -> this.colorManager.getColor (state, null), null);
 
@@ -198,16 +198,6 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
-    /** {@inheritDoc} */
-    @Override
-    protected void flushHardware ()
-    {
-        super.flushHardware ();
-
-        ((LaunchpadPadGrid) this.pads).flush ();
-    }
-
-
     /**
      * Send sysex data to the launchpad.
      *
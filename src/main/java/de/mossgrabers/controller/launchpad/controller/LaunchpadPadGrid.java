@@ -5,14 +5,13 @@
 package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.controller.launchpad.definition.ILaunchpadControllerDefinition;
+import de.mossgrabers.controller.launchpad.definition.LEDUpdateEncoder;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
 
 /**
@@ -36,15 +35,22 @@ public class LaunchpadPadGrid extends PadGridImpl
     };
     // @formatter:on
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    /** If more pads than this changed, all pads of the grid are sent. */
+    private static final int                   FULL_FRAME_THRESHOLD     = 48;
+
+    private static final int []                INVERSE_TRANSLATE_MATRIX = new int [128];
+    private static final int []                ALL_PADS                 = new int [TRANSLATE_MATRIX.length];
     static
     {
+        Arrays.fill (INVERSE_TRANSLATE_MATRIX, -1);
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
+        {
+            INVERSE_TRANSLATE_MATRIX[TRANSLATE_MATRIX[i]] = 36 + i;
+            ALL_PADS[i] = 36 + i;
+        }
     }
 
-    private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final LEDUpdateEncoder             encoder;
 
 
     /**
@@ -58,22 +64,21 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         super (colorManager, output);
 
-        this.definition = definition;
+        this.encoder = definition.createLEDUpdateEncoder ();
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int translateToGrid (final int note)
+    protected int mapToGrid (final int note)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        return note >= 0 && note < INVERSE_TRANSLATE_MATRIX.length ? INVERSE_TRANSLATE_MATRIX[note] : -1;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    protected int [] mapToController (final int note)
     {
         // Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
         return new int []
@@ -84,42 +89,24 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
 
-    /**
-     * Flush the changed pad LEDs using sysex.
-     */
-    public void flush ()
-    {
-        synchronized (this.padInfos)
-        {
-            if (this.padInfos.isEmpty ())
-                return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
-            this.padInfos.clear ();
-        }
-    }
-
-
     /** {@inheritDoc} */
     @Override
-    protected void sendNoteState (final int channel, final int note, final int color)
+    protected int sendStates (final int [] notes, final int count)
     {
-        synchronized (this.padInfos)
-        {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
-        }
-    }
+        // If most of the pads changed, e.g. on a view change, the complete grid is sent
+        final boolean isFullFrame = count > FULL_FRAME_THRESHOLD;
+        final int [] pads = isFullFrame ? ALL_PADS : notes;
+        final int padCount = isFullFrame ? ALL_PADS.length : count;
 
-
-    /** {@inheritDoc} */
-    @Override
-    protected void sendBlinkState (final int channel, final int note, final int blinkColor, final boolean fast)
-    {
-        synchronized (this.padInfos)
+        for (int i = 0; i < padCount; i++)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            final int note = pads[i];
+            final LightInfo state = this.padStates[note];
+            final int color = state.getColor ();
+            final int blinkColor = state.getBlinkColor ();
+            final boolean isBlinking = blinkColor > 0 && blinkColor < 128;
+            this.encoder.addPad (this.translateToControllerNote (note), color < 0 ? 0 : color, isBlinking ? blinkColor : 0, isBlinking && state.isFast ());
         }
+        return this.encoder.send (this.output);
     }
 }
\ No newline at end of file
@@ -8,10 +8,8 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
-import java.util.List;
 import java.util.Map;
 
 
@@ -99,12 +97,11 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update sysex string for all given pads.
+     * Create an encoder for the sysex messages which update the pads.
      *
-     * @param padInfos The info how to update the pads
-     * @return The sysex string
+     * @return The encoder
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    LEDUpdateEncoder createLEDUpdateEncoder ();
 
 
     /**
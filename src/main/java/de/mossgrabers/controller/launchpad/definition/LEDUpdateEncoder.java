@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.launchpad.definition;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+
+
+/**
+ * Encodes the states of the pads of a Launchpad into system exclusive messages. The pads of one
+ * update are collected and then sent with as few messages as possible. The buffers are allocated
+ * once with the capacity to hold all pads of the grid. An encoder is not thread-safe, therefore
+ * each pad grid needs its own instance.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class LEDUpdateEncoder
+{
+    /** The number of pads of the grid. */
+    public static final int NUM_PADS = 64;
+
+
+    /**
+     * Add the state of a pad to the update.
+     *
+     * @param note The note of the pad on the controller
+     * @param color The color index
+     * @param blinkColor The color index to blink with, 0 or less if the pad does not blink
+     * @param fast True to flash, false to pulse
+     */
+    public abstract void addPad (int note, int color, int blinkColor, boolean fast);
+
+
+    /**
+     * Send all added pad states. Afterwards, the encoder is ready for the next update.
+     *
+     * @param output The output to send to
+     * @return The number of sent bytes
+     */
+    public abstract int send (IMidiOutput output);
+
+
+    /**
+     * Send the message of a builder if any data was added to it.
+     *
+     * @param output The output to send to
+     * @param builder The builder
+     * @return The number of sent bytes
+     */
+    protected static int send (final IMidiOutput output, final SysexBuilder builder)
+    {
+        if (builder.isEmpty ())
+            return 0;
+        final byte [] message = builder.finish ();
+        output.sendSysex (message);
+        return message.length;
+    }
+}
@@ -8,18 +8,15 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.VirtualFaderImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -199,37 +196,9 @@ public class LaunchpadProControllerDefinition extends SimpleLaunchpadDefinition
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public LEDUpdateEncoder createLEDUpdateEncoder ()
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
-
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-
-            if (info.getBlinkColor () > 0)
-            {
-                if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-            }
-        }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
+        return new ProLEDUpdateEncoder (SYSEX_HEADER, false);
     }
 
 
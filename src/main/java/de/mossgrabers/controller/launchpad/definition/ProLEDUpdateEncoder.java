@@ -0,0 +1,63 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.launchpad.definition;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+
+
+/**
+ * Encodes the pad states for the Launchpad Pro and MkII. These use one message for the static
+ * colors and one each for the flashing and pulsing colors.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ProLEDUpdateEncoder extends LEDUpdateEncoder
+{
+    private final SysexBuilder normalBuilder;
+    private final SysexBuilder flashBuilder;
+    private final SysexBuilder pulseBuilder;
+    private final boolean      hasBlinkPrefix;
+
+
+    /**
+     * Constructor.
+     *
+     * @param sysexHeader The system exclusive header of the device
+     * @param hasBlinkPrefix The MkII requires an additional 00 in front of each pad of the flash
+     *            and pulse messages
+     */
+    public ProLEDUpdateEncoder (final String sysexHeader, final boolean hasBlinkPrefix)
+    {
+        final int capacity = 10 + 3 * NUM_PADS;
+        this.normalBuilder = new SysexBuilder (sysexHeader + "0A", capacity);
+        this.flashBuilder = new SysexBuilder (sysexHeader + "23", capacity);
+        this.pulseBuilder = new SysexBuilder (sysexHeader + "28", capacity);
+        this.hasBlinkPrefix = hasBlinkPrefix;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addPad (final int note, final int color, final int blinkColor, final boolean fast)
+    {
+        this.normalBuilder.put7bit (note).put7bit (color);
+
+        if (blinkColor <= 0)
+            return;
+        final SysexBuilder builder = fast ? this.flashBuilder : this.pulseBuilder;
+        if (this.hasBlinkPrefix)
+            builder.put7bit (0x00);
+        builder.put7bit (note).put7bit (blinkColor);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int send (final IMidiOutput output)
+    {
+        return send (output, this.normalBuilder) + send (output, this.flashBuilder) + send (output, this.pulseBuilder);
+    }
+}
@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.launchpad.definition;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+
+
+/**
+ * Encodes the pad states for the Launchpad X and Mini MkIII. These send static, flashing and
+ * pulsing colors with one message, each pad is prefixed with its lighting type.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimpleLEDUpdateEncoder extends LEDUpdateEncoder
+{
+    private final SysexBuilder builder;
+
+
+    /**
+     * Constructor.
+     *
+     * @param sysexHeader The system exclusive header of the device
+     */
+    public SimpleLEDUpdateEncoder (final String sysexHeader)
+    {
+        this.builder = new SysexBuilder (sysexHeader + "03", 10 + 4 * NUM_PADS);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addPad (final int note, final int color, final int blinkColor, final boolean fast)
+    {
+        if (blinkColor <= 0)
+        {
+            // 00h: Static colour from palette, Lighting data is 1 byte specifying palette entry.
+            this.builder.put7bit (0x00).put7bit (note).put7bit (color);
+        }
+        else if (fast)
+        {
+            // 01h: Flashing colour, Lighting data is 2 bytes specifying Colour B and Colour A.
+            this.builder.put7bit (0x01).put7bit (note).put7bit (blinkColor).put7bit (color);
+        }
+        else
+        {
+            // 02h: Pulsing colour, Lighting data is 1 byte specifying palette entry.
+            this.builder.put7bit (0x02).put7bit (note).put7bit (color);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int send (final IMidiOutput output)
+    {
+        return send (output, this.builder);
+    }
+}
@@ -8,15 +8,9 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.grid.IVirtualFader;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.VirtualFaderImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -82,36 +76,9 @@ public abstract class SimpleLaunchpadDefinition extends DefaultControllerDefinit
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public LEDUpdateEncoder createLEDUpdateEncoder ()
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
-        {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            if (info.getBlinkColor () <= 0)
-            {
-                // 00h: Static colour from palette, Lighting data is 1 byte specifying palette
-                // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-            }
-            else
-            {
-                if (info.isFast ())
-                {
-                    // 01h: Flashing colour, Lighting data is 2 bytes specifying Colour B and
-                    // Colour A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-                }
-                else
-                {
-                    // 02h: Pulsing colour, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-                }
-            }
-        }
-        return Collections.singletonList (sb.append ("F7").toString ());
+        return new SimpleLEDUpdateEncoder (this.getSysExHeader ());
     }
 
 
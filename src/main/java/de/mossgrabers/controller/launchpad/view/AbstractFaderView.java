@@ -7,7 +7,6 @@ package de.mossgrabers.controller.launchpad.view;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadColorManager;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 
@@ -185,7 +184,7 @@ public abstract class AbstractFaderView extends SessionView
     public void setupFader (final int index)
     {
         final ITrack track = this.model.getCurrentTrackBank ().getItem (index);
-        final int color = this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+        final int color = this.colorManager.getDAWColorIndex (track.getColor ());
         this.surface.setupFader (index, color, false);
     }
 }
\ No newline at end of file
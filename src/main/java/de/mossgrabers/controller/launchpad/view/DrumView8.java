@@ -140,7 +140,7 @@ public class DrumView8 extends DrumViewBase
                 final int x = col % 8;
                 int y = col / 8;
                 y += sound;
-                padGrid.lightEx (x, 7 - y, this.getStepColor (isSet, hilite));
+                padGrid.lightExToken (x, 7 - y, this.getStepColor (isSet, hilite));
             }
         }
     }
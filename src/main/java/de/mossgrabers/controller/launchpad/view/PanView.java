@@ -5,7 +5,6 @@
 package de.mossgrabers.controller.launchpad.view;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -64,7 +63,7 @@ public class PanView extends AbstractFaderView
         for (int i = 0; i < 8; i++)
         {
             final ITrack track = tb.getItem (i);
-            final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+            final int color = track.doesExist () ? this.colorManager.getDAWColorIndex (track.getColor ()) : 0;
             if (this.trackColors[i] != color)
             {
                 this.trackColors[i] = color;
@@ -80,7 +79,7 @@ public class PanView extends AbstractFaderView
     public void setupFader (final int index)
     {
         final ITrack track = this.model.getCurrentTrackBank ().getItem (index);
-        final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+        final int color = track.doesExist () ? this.colorManager.getDAWColorIndex (track.getColor ()) : 0;
         this.surface.setupFader (index, color, true);
     }
 }
\ No newline at end of file
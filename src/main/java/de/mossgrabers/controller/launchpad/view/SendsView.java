@@ -8,7 +8,6 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadColorManager;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -83,7 +82,7 @@ public class SendsView extends AbstractFaderView
         {
             final ITrack track = tb.getItem (i);
             final ISend send = track.getSendBank ().getItem (this.selectedSend);
-            final int color = cm.getColorIndex (DAWColor.getColorIndex (track.getColor ()));
+            final int color = cm.getDAWColorIndex (track.getColor ());
             if (this.trackColors[i] != color)
             {
                 this.trackColors[i] = color;
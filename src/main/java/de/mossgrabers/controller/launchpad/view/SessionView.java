@@ -9,7 +9,6 @@ import de.mossgrabers.controller.launchpad.controller.LaunchpadColorManager;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -136,8 +135,11 @@ public class SessionView extends AbstractSessionView<LaunchpadControlSurface, La
 
     /** {@inheritDoc} */
     @Override
-    public String getButtonColorID (final ButtonID buttonID)
+    public int getButtonColor (final ButtonID buttonID)
     {
+        if (this.surface.getButton (buttonID).isPressed ())
+            return LaunchpadColorManager.LAUNCHPAD_COLOR_WHITE;
+
         final int index = buttonID.ordinal () - ButtonID.SCENE1.ordinal ();
         if (index >= 0 || index < 8)
         {
@@ -146,20 +148,10 @@ public class SessionView extends AbstractSessionView<LaunchpadControlSurface, La
             final IScene s = sceneBank.getItem (index);
 
             if (s.doesExist ())
-                return DAWColor.getColorIndex (s.getColor ());
+                return this.colorManager.getDAWColorIndex (s.getColor ());
         }
 
-        return AbstractMode.BUTTON_COLOR_OFF;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public int getButtonColor (final ButtonID buttonID)
-    {
-        if (this.surface.getButton (buttonID).isPressed ())
-            return LaunchpadColorManager.LAUNCHPAD_COLOR_WHITE;
-        return super.getButtonColor (buttonID);
+        return this.colorManager.getColorIndex (AbstractMode.BUTTON_COLOR_OFF);
     }
 
 
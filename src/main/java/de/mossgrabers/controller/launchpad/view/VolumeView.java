@@ -7,7 +7,6 @@ package de.mossgrabers.controller.launchpad.view;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadColorManager;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
@@ -58,7 +57,7 @@ public class VolumeView extends AbstractFaderView
         for (int i = 0; i < 8; i++)
         {
             final ITrack track = tb.getItem (i);
-            final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+            final int color = track.doesExist () ? this.colorManager.getDAWColorIndex (track.getColor ()) : 0;
             if (this.trackColors[i] != color)
             {
                 this.trackColors[i] = color;
@@ -77,7 +76,7 @@ public class VolumeView extends AbstractFaderView
 
         final IMasterTrack track = this.model.getMasterTrack ();
         final int sceneMax = 9 * track.getVolume () / this.model.getValueChanger ().getUpperBound ();
-        final int color = track.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorIndex (track.getColor ())) : 0;
+        final int color = track.doesExist () ? this.colorManager.getDAWColorIndex (track.getColor ()) : 0;
         return scene < sceneMax ? color : LaunchpadColorManager.LAUNCHPAD_COLOR_BLACK;
     }
 
@@ -9,7 +9,6 @@ import de.mossgrabers.controller.maschine.mikro.mk3.controller.MaschineMikroMk3C
 import de.mossgrabers.controller.maschine.mikro.mk3.controller.MaschineMikroMk3ControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -184,7 +183,7 @@ public class ClipView extends BaseView
                 else if (item.isStopQueued ())
                     padGrid.lightEx (x, y, MaschineMikroMk3ColorManager.COLOR_GREEN_LO);
                 else
-                    padGrid.lightEx (x, y, DAWColor.getColorIndex (item.getColor ()));
+                    padGrid.lightEx (x, y, this.colorManager.getDAWColorIndex (item.getColor ()));
             }
             else
                 padGrid.lightEx (x, y, AbstractMode.BUTTON_COLOR_OFF);
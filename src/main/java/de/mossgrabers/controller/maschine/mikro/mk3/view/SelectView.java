@@ -8,7 +8,6 @@ import de.mossgrabers.controller.maschine.mikro.mk3.controller.MaschineMikroMk3C
 import de.mossgrabers.controller.maschine.mikro.mk3.controller.MaschineMikroMk3ControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -73,7 +72,7 @@ public class SelectView extends BaseView
                 if (item.isSelected ())
                     padGrid.lightEx (x, y, MaschineMikroMk3ColorManager.COLOR_WHITE);
                 else
-                    padGrid.lightEx (x, y, DAWColor.getColorIndex (item.getColor ()));
+                    padGrid.lightEx (x, y, this.colorManager.getDAWColorIndex (item.getColor ()));
             }
             else
                 padGrid.lightEx (x, y, AbstractMode.BUTTON_COLOR_OFF);
@@ -8,9 +8,15 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
 
 /**
  * The MCU main display.
@@ -21,11 +27,22 @@ public class MCUDisplay extends AbstractTextDisplay
 {
     private static final String         SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
     private static final String         SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
+    /** Changes which are not further apart are sent with one message. */
+    private static final int            MERGE_DISTANCE        = 8;
 
     private boolean                     isFirst;
     private boolean                     hasMaster;
 
     private final LatestTaskExecutor [] executors             = new LatestTaskExecutor [4];
+    private final SysexBuilder []       sysexBuilders         = new SysexBuilder [2];
+    private final char [] []            sentLines             = new char [2] [0];
+    private final AtomicBoolean []      isResendRequired      = new AtomicBoolean [2];
+
+    private final AtomicLong            sentBytes             = new AtomicLong ();
+    private final Object                measureLock           = new Object ();
+    private long                        measureStart;
+    private long                        measureBytes;
+    private volatile double             bytesPerSecond;
 
 
     /**
@@ -46,6 +63,13 @@ public class MCUDisplay extends AbstractTextDisplay
 
         for (int i = 0; i < 4; i++)
             this.executors[i] = new LatestTaskExecutor ();
+
+        // One builder for each row since the rows are sent from different threads
+        for (int i = 0; i < 2; i++)
+        {
+            this.sysexBuilders[i] = new SysexBuilder (isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2);
+            this.isResendRequired[i] = new AtomicBoolean ();
+        }
     }
 
 
@@ -92,11 +116,7 @@ public class MCUDisplay extends AbstractTextDisplay
         executor.execute ( () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendChangedCharacters (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -106,6 +126,40 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        super.forceFlush ();
+
+        for (final AtomicBoolean resend: this.isResendRequired)
+            resend.set (true);
+    }
+
+
+    /**
+     * Get the number of bytes which were sent to the display.
+     *
+     * @return The number of bytes
+     */
+    public long getSentBytes ()
+    {
+        return this.sentBytes.get ();
+    }
+
+
+    /**
+     * Get the number of bytes per second which were sent to the display. Measured over the last
+     * completed measurement period of one second.
+     *
+     * @return The bytes per second
+     */
+    public double getBytesPerSecond ()
+    {
+        return this.bytesPerSecond;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -116,4 +170,75 @@ public class MCUDisplay extends AbstractTextDisplay
         for (int i = 0; i < 4; i++)
             this.executors[i].shutdown ();
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Compares the text with the characters which were last sent to the row and only sends the
+     * changed characters. Since each message has an overhead of 8 bytes, changes which are close to
+     * each other are combined into one message.
+     *
+     * @param row The row
+     * @param text The text of the row
+     */
+    private void sendChangedCharacters (final int row, final String text)
+    {
+        final int length = text.length ();
+        char [] sentLine = this.sentLines[row];
+        if (sentLine.length != length)
+        {
+            sentLine = new char [length];
+            this.sentLines[row] = sentLine;
+            this.isResendRequired[row].set (true);
+        }
+        // Invalid characters force all characters to be sent
+        if (this.isResendRequired[row].getAndSet (false))
+            Arrays.fill (sentLine, Character.MAX_VALUE);
+
+        int position = 0;
+        while (position < length)
+        {
+            if (text.charAt (position) == sentLine[position])
+            {
+                position++;
+                continue;
+            }
+
+            final int start = position;
+            int end = position + 1;
+            for (int i = end; i < length && i - end < MERGE_DISTANCE; i++)
+            {
+                if (text.charAt (i) != sentLine[i])
+                    end = i + 1;
+            }
+
+            final byte [] data = this.sysexBuilders[row].put7bit (row * 0x38 + start).putAscii (text, start, end).finish ();
+            this.output.sendSysex (data);
+            this.measure (data.length);
+
+            text.getChars (start, end, sentLine, start);
+            position = end;
+        }
+    }
+
+
+    private void measure (final int bytes)
+    {
+        this.sentBytes.addAndGet (bytes);
+
+        synchronized (this.measureLock)
+        {
+            final long now = System.nanoTime ();
+            if (this.measureStart == 0)
+                this.measureStart = now;
+            this.measureBytes += bytes;
+
+            final long duration = now - this.measureStart;
+            if (duration < TimeUnit.SECONDS.toNanos (1))
+                return;
+
+            this.bytesPerSecond = this.measureBytes * (double) TimeUnit.SECONDS.toNanos (1) / duration;
+            this.measureStart = 0;
+            this.measureBytes = 0;
+        }
+    }
+}
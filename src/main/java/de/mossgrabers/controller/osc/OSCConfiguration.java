@@ -27,6 +27,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     public static final Integer RECEIVE_PORT     = Integer.valueOf (50);
     /** ID for value resolution setting. */
     public static final Integer VALUE_RESOLUTION = Integer.valueOf (51);
+    /** ID for track update mode setting. */
+    public static final Integer TRACK_UPDATES    = Integer.valueOf (60);
 
 
     /** The resolution for values. */
@@ -48,10 +50,58 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         "High (16384)"
     };
 
+    private static final String [] TRACK_UPDATES_OPTIONS    =
+    {
+        "Poll all tracks",
+        "Only changed tracks"
+    };
+
+    private static final String [] DATAGRAM_SIZE_OPTIONS    =
+    {
+        "1472 (Ethernet)",
+        "8192",
+        "65507 (UDP maximum)"
+    };
+
+    private static final int []    DATAGRAM_SIZES           =
+    {
+        1472,
+        8192,
+        65507
+    };
+
+    private static final String [] SEND_RATE_OPTIONS        =
+    {
+        "256 KB/s",
+        "512 KB/s",
+        "1 MB/s",
+        "4 MB/s",
+        "Unlimited"
+    };
+
+    private static final int []    SEND_RATES               =
+    {
+        256 * 1024,
+        512 * 1024,
+        1024 * 1024,
+        4 * 1024 * 1024,
+        0
+    };
+
+    private static final String [] NETWORK_OPTIONS          =
+    {
+        "Bitwig",
+        "Java NIO"
+    };
+
     private int                    receivePort              = 8000;
     private String                 sendHost                 = DEFAULT_SERVER;
     private int                    sendPort                 = 9000;
     private ValueResolution        valueResolution          = ValueResolution.LOW;
+    private boolean                onlyChangedTracks        = false;
+    private int                    maxDatagramSize          = DATAGRAM_SIZES[1];
+    private int                    maxBytesPerSecond        = SEND_RATES[1];
+    private boolean                isNativeNetwork          = false;
 
 
     /**
@@ -86,6 +136,15 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        final IEnumSetting datagramSizeSetting = globalSettings.getEnumSetting ("Max. datagram size (requires restart)", CATEGORY_SETUP, DATAGRAM_SIZE_OPTIONS, DATAGRAM_SIZE_OPTIONS[1]);
+        this.maxDatagramSize = lookupOption (DATAGRAM_SIZE_OPTIONS, DATAGRAM_SIZES, datagramSizeSetting.get (), this.maxDatagramSize);
+
+        final IEnumSetting sendRateSetting = globalSettings.getEnumSetting ("Max. send rate (requires restart)", CATEGORY_SETUP, SEND_RATE_OPTIONS, SEND_RATE_OPTIONS[1]);
+        this.maxBytesPerSecond = lookupOption (SEND_RATE_OPTIONS, SEND_RATES, sendRateSetting.get (), this.maxBytesPerSecond);
+
+        final IEnumSetting networkSetting = globalSettings.getEnumSetting ("Network implementation (requires restart)", CATEGORY_SETUP, NETWORK_OPTIONS, NETWORK_OPTIONS[0]);
+        this.isNativeNetwork = NETWORK_OPTIONS[1].equals (networkSetting.get ());
+
         final IEnumSetting valueResolutionSetting = globalSettings.getEnumSetting ("Value resolution (must match your client!)", CATEGORY_SETUP, VALUE_RESOLUTION_OPTIONS, VALUE_RESOLUTION_OPTIONS[0]);
         valueResolutionSetting.addValueObserver (value -> {
             if (VALUE_RESOLUTION_OPTIONS[0].equals (value))
@@ -98,6 +157,12 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
             this.notifyObservers (VALUE_RESOLUTION);
         });
 
+        final IEnumSetting trackUpdatesSetting = globalSettings.getEnumSetting ("Track updates", CATEGORY_SETUP, TRACK_UPDATES_OPTIONS, TRACK_UPDATES_OPTIONS[0]);
+        trackUpdatesSetting.addValueObserver (value -> {
+            this.onlyChangedTracks = TRACK_UPDATES_OPTIONS[1].equals (value);
+            this.notifyObservers (TRACK_UPDATES);
+        });
+
         ///////////////////////////
         // Transport
 
@@ -163,4 +228,61 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.valueResolution;
     }
+
+
+    /**
+     * Should only the tracks be sent whose values have changed since the last flush? Otherwise, all
+     * values of all tracks are polled on each flush.
+     *
+     * @return True to only send changed tracks
+     */
+    public boolean isOnlyChangedTracks ()
+    {
+        return this.onlyChangedTracks;
+    }
+
+
+    /**
+     * Get the maximum size of the UDP datagrams to send.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxDatagramSize ()
+    {
+        return this.maxDatagramSize;
+    }
+
+
+    /**
+     * Get the maximum number of bytes to send per second.
+     *
+     * @return The number of bytes, 0 if unlimited
+     */
+    public int getMaxBytesPerSecond ()
+    {
+        return this.maxBytesPerSecond;
+    }
+
+
+    /**
+     * Should the OSC messages be sent and received with the Java NIO implementation instead of the
+     * OSC implementation of Bitwig?
+     *
+     * @return True to use the Java NIO implementation
+     */
+    public boolean isNativeNetwork ()
+    {
+        return this.isNativeNetwork;
+    }
+
+
+    private static int lookupOption (final String [] options, final int [] values, final String option, final int defaultValue)
+    {
+        for (int i = 0; i < options.length; i++)
+        {
+            if (options[i].equals (option))
+                return values[i];
+        }
+        return defaultValue;
+    }
 }
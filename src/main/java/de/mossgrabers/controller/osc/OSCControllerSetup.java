@@ -33,6 +33,8 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.UdpOpenSoundControlClient;
+import de.mossgrabers.framework.osc.UdpOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
@@ -50,6 +52,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
 {
     private OSCWriter               writer;
     private KeyManager              keyManager;
+    private IOpenSoundControlClient oscClient;
     private IOpenSoundControlServer oscServer;
 
 
@@ -71,11 +74,25 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        if (this.oscClient != null)
+            this.oscClient.close ();
+        if (this.oscServer != null)
+            this.oscServer.close ();
+        this.host.releaseOSC ();
+        super.exit ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush ()
     {
         this.writer.flush (false);
+        this.model.getFlushScheduler ().flushExecuted ();
     }
 
 
@@ -167,8 +184,8 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final String sendHost = this.configuration.getSendHost ();
         final int sendPort = this.configuration.getSendPort ();
         this.host.println (String.format ("Connecting to OSC server %s:%d", sendHost, Integer.valueOf (sendPort)));
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (sendHost, sendPort);
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        this.oscClient = this.createClient (sendHost, sendPort);
+        this.writer = new OSCWriter (this.host, this.model, this.oscClient, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -193,7 +210,29 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
             parser.registerModule (module);
         });
 
-        this.oscServer = this.host.createOSCServer (parser);
+        if (this.configuration.isNativeNetwork ())
+            this.oscServer = new UdpOpenSoundControlServer (this.host, parser);
+        else
+            this.oscServer = this.host.createOSCServer (parser);
+    }
+
+
+    private IOpenSoundControlClient createClient (final String sendHost, final int sendPort)
+    {
+        final int maxDatagramSize = this.configuration.getMaxDatagramSize ();
+        final int maxBytesPerSecond = this.configuration.getMaxBytesPerSecond ();
+        if (this.configuration.isNativeNetwork ())
+        {
+            try
+            {
+                return new UdpOpenSoundControlClient (this.host, sendHost, sendPort, maxDatagramSize, maxBytesPerSecond);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not open OSC connection, using the Bitwig implementation.", ex);
+            }
+        }
+        return this.host.connectToOSCServer (sendHost, sendPort, maxDatagramSize, maxBytesPerSecond);
     }
 
 
@@ -10,8 +10,10 @@ import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
-import de.mossgrabers.framework.daw.data.ISend;
+import de.mossgrabers.framework.osc.AddressLayout;
+import de.mossgrabers.framework.osc.AddressTrie;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.NumberedAddresses;
 
 import java.util.LinkedList;
 
@@ -23,9 +25,26 @@ import java.util.LinkedList;
  */
 public abstract class AbstractModule implements IModule
 {
-    protected final IHost             host;
-    protected final IModel            model;
-    protected IOpenSoundControlWriter writer;
+    /** The addresses of the values of a parameter. */
+    protected static final AddressLayout PARAMETER_LAYOUT      = new AddressLayout ();
+    /** The addresses of the values of a send. */
+    protected static final AddressLayout SEND_LAYOUT           = new AddressLayout ();
+
+    private static final int             PARAM_NAME            = addParameterAddress ("name", "name");
+    private static final int             PARAM_VALUE_STR       = addParameterAddress ("valueStr", "volumeStr");
+    private static final int             PARAM_VALUE           = addParameterAddress ("value", "volume");
+    private static final int             PARAM_MODULATED_VALUE = addParameterAddress ("modulatedValue", "modulatedValue");
+
+    /** The addresses of the values of a parameter page. */
+    protected static final AddressLayout PAGE_LAYOUT           = new AddressLayout ();
+    /** The address of the name of a parameter page. */
+    protected static final int           PAGE_NAME             = PAGE_LAYOUT.add ("");
+    /** The address of the selection state of a parameter page. */
+    protected static final int           PAGE_SELECTED         = PAGE_LAYOUT.add ("selected");
+
+    protected final IHost                host;
+    protected final IModel               model;
+    protected IOpenSoundControlWriter    writer;
 
 
     /**
@@ -51,6 +70,14 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final AddressTrie<ICommandHandler> handlers)
+    {
+        // Intentionally empty
+    }
+
+
     /**
      * Get the clip to use.
      *
@@ -153,21 +180,47 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Creates the registered addresses of numbered objects which all have the same layout.
+     *
+     * @param prefix The prefix of the addresses, e.g. /track/
+     * @param layout The layout of the addresses of each object
+     * @return The slots of the layouts of the objects
+     */
+    protected NumberedAddresses<Integer> createNumberedAddresses (final String prefix, final AddressLayout layout)
+    {
+        return new NumberedAddresses<> (prefix, address -> Integer.valueOf (this.writer.registerAddresses (address, layout)));
+    }
+
+
     /**
      * Flush all data of a parameter.
      *
      * @param writer Where to send the messages to
-     * @param fxAddress The start address for the effect
+     * @param slot The slot of the addresses of the parameter, registered with the parameter or send
+     *            layout
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final int slot, final IParameter fxParam, final boolean dump)
     {
-        final boolean isSend = fxParam instanceof ISend;
+        writer.sendOSC (slot + PARAM_NAME, fxParam.getName (), dump);
+        writer.sendOSC (slot + PARAM_VALUE_STR, fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (slot + PARAM_VALUE, fxParam.getValue (), dump);
+        writer.sendOSC (slot + PARAM_MODULATED_VALUE, fxParam.getModulatedValue (), dump);
+    }
 
-        writer.sendOSC (fxAddress + "name", fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volume" : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+
+    /**
+     * Add the address of a value to the parameter and send layouts.
+     *
+     * @param parameterAddress The address of the value of a parameter
+     * @param sendAddress The address of the value of a send
+     * @return The index of the address in the layouts
+     */
+    private static int addParameterAddress (final String parameterAddress, final String sendAddress)
+    {
+        SEND_LAYOUT.add (sendAddress);
+        return PARAMETER_LAYOUT.add (parameterAddress);
     }
 }
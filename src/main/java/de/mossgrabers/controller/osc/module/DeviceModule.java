@@ -23,7 +23,10 @@ import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ILayer;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
+import de.mossgrabers.framework.osc.AddressLayout;
+import de.mossgrabers.framework.osc.AddressTrie;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.NumberedAddresses;
 
 import java.util.LinkedList;
 
@@ -35,7 +38,38 @@ import java.util.LinkedList;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final AddressLayout              DEVICE_LAYOUT             = new AddressLayout ();
+    private static final int                        DEVICE_EXISTS             = DEVICE_LAYOUT.add ("exists");
+    private static final int                        DEVICE_NAME               = DEVICE_LAYOUT.add ("name");
+    private static final int                        DEVICE_BYPASS             = DEVICE_LAYOUT.add ("bypass");
+    private static final int                        DEVICE_EXPAND             = DEVICE_LAYOUT.add ("expand");
+    private static final int                        DEVICE_WINDOW             = DEVICE_LAYOUT.add ("window");
+    private static final int                        DEVICE_SELECTED_PAGE_NAME = DEVICE_LAYOUT.add ("page/selected/name");
+
+    private static final AddressLayout              SIBLING_LAYOUT            = new AddressLayout ();
+    private static final int                        SIBLING_NAME              = SIBLING_LAYOUT.add ("name");
+    private static final int                        SIBLING_SELECTED          = SIBLING_LAYOUT.add ("selected");
+
+    private static final AddressLayout              LAYER_LAYOUT              = new AddressLayout ();
+    private static final int                        LAYER_EXISTS              = LAYER_LAYOUT.add ("exists");
+    private static final int                        LAYER_ACTIVATED           = LAYER_LAYOUT.add ("activated");
+    private static final int                        LAYER_SELECTED            = LAYER_LAYOUT.add ("selected");
+    private static final int                        LAYER_NAME                = LAYER_LAYOUT.add ("name");
+    private static final int                        LAYER_VOLUME_STR          = LAYER_LAYOUT.add ("volumeStr");
+    private static final int                        LAYER_VOLUME              = LAYER_LAYOUT.add ("volume");
+    private static final int                        LAYER_PAN_STR             = LAYER_LAYOUT.add ("panStr");
+    private static final int                        LAYER_PAN                 = LAYER_LAYOUT.add ("pan");
+    private static final int                        LAYER_MUTE                = LAYER_LAYOUT.add ("mute");
+    private static final int                        LAYER_SOLO                = LAYER_LAYOUT.add ("solo");
+    private static final int                        LAYER_VU                  = LAYER_LAYOUT.add ("vu");
+    private static final int                        LAYER_COLOR               = LAYER_LAYOUT.add ("color");
+
+    private final OSCConfiguration                  configuration;
+    private final DeviceAddresses                   cursorDeviceAddresses;
+    private final DeviceAddresses                   primaryDeviceAddresses;
+    private final NumberedAddresses<LayerAddresses> drumPadAddresses;
+    private final NumberedAddresses<LayerAddresses> layerAddresses;
+    private final LayerAddresses                    selectedLayerAddresses;
 
 
     /**
@@ -51,6 +85,12 @@ public class DeviceModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.cursorDeviceAddresses = new DeviceAddresses ("/device/");
+        this.primaryDeviceAddresses = new DeviceAddresses ("/primary/");
+        this.drumPadAddresses = new NumberedAddresses<> ("/device/drumpad/", LayerAddresses::new);
+        this.layerAddresses = new NumberedAddresses<> ("/device/layer/", LayerAddresses::new);
+        this.selectedLayerAddresses = new LayerAddresses ("/device/layer/selected/");
     }
 
 
@@ -86,25 +126,36 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final AddressTrie<ICommandHandler> handlers)
+    {
+        handlers.add ("/device/param/#/value", (numbers, value) -> this.model.getCursorDevice ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+        handlers.add ("/device/param/#/touched", (numbers, value) -> this.model.getCursorDevice ().getParameterBank ().getItem (numbers[0] - 1).touchValue (isTrigger (value)));
+        handlers.add ("/primary/param/#/value", (numbers, value) -> this.model.getInstrumentDevice ().getParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+        handlers.add ("/primary/param/#/touched", (numbers, value) -> this.model.getInstrumentDevice ().getParameterBank ().getItem (numbers[0] - 1).touchValue (isTrigger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
+        this.flushDevice (this.writer, this.cursorDeviceAddresses, cd, dump);
         if (cd.hasDrumPads ())
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
             for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+                this.flushDeviceLayer (this.writer, this.drumPadAddresses.get (i), drumPadBank.getItem (i), dump);
         }
         final ILayerBank layerBank = cd.getLayerBank ();
         for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+            this.flushDeviceLayer (this.writer, this.layerAddresses.get (i), layerBank.getItem (i), dump);
         final ILayer selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer == null ? EmptyLayer.INSTANCE : selectedLayer, dump);
+        this.flushDeviceLayer (this.writer, this.selectedLayerAddresses, selectedLayer == null ? EmptyLayer.INSTANCE : selectedLayer, dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getInstrumentDevice (), dump);
+        this.flushDevice (this.writer, this.primaryDeviceAddresses, this.model.getInstrumentDevice (), dump);
     }
 
 
@@ -112,42 +163,40 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The registered addresses of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ICursorDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final DeviceAddresses addresses, final ICursorDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + "exists", device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "name", device.getName (), dump);
-        writer.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        final int deviceSlot = addresses.slot;
+        writer.sendOSC (deviceSlot + DEVICE_EXISTS, device.doesExist (), dump);
+        writer.sendOSC (deviceSlot + DEVICE_NAME, device.getName (), dump);
+        writer.sendOSC (deviceSlot + DEVICE_BYPASS, !device.isEnabled (), dump);
+        writer.sendOSC (deviceSlot + DEVICE_EXPAND, device.isExpanded (), dump);
+        writer.sendOSC (deviceSlot + DEVICE_WINDOW, device.isWindowOpen (), dump);
         final int positionInBank = device.getIndex ();
         final IDeviceBank deviceBank = device.getDeviceBank ();
         for (int i = 0; i < deviceBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
-            writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", deviceBank.getItem (i).getName (), dump);
-            writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+            final int siblingSlot = addresses.siblings.get (i).intValue ();
+            writer.sendOSC (siblingSlot + SIBLING_NAME, deviceBank.getItem (i).getName (), dump);
+            writer.sendOSC (siblingSlot + SIBLING_SELECTED, i == positionInBank, dump);
 
         }
         final IParameterBank parameterBank = device.getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (writer, addresses.parameters.get (i).intValue (), parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/", parameterPageBank.getItem (i), dump);
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/selected", selectedParameterPage == i, dump);
+            final int pageSlot = addresses.pages.get (i).intValue ();
+            writer.sendOSC (pageSlot + PAGE_NAME, parameterPageBank.getItem (i), dump);
+            writer.sendOSC (pageSlot + PAGE_SELECTED, selectedParameterPage == i, dump);
         }
-        writer.sendOSC (deviceAddress + "page/selected/name", parameterPageBank.getSelectedItem (), dump);
+        writer.sendOSC (deviceSlot + DEVICE_SELECTED_PAGE_NAME, parameterPageBank.getSelectedItem (), dump);
     }
 
 
@@ -155,35 +204,36 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device layer.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The registered addresses of the layer
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final LayerAddresses addresses, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        writer.sendOSC (deviceAddress + "exists", channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + "selected", channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + "name", channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + "volume", channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        final int layerSlot = addresses.slot;
+        writer.sendOSC (layerSlot + LAYER_EXISTS, channel.doesExist (), dump);
+        writer.sendOSC (layerSlot + LAYER_ACTIVATED, channel.isActivated (), dump);
+        writer.sendOSC (layerSlot + LAYER_SELECTED, channel.isSelected (), dump);
+        writer.sendOSC (layerSlot + LAYER_NAME, channel.getName (), dump);
+        writer.sendOSC (layerSlot + LAYER_VOLUME_STR, channel.getVolumeStr (), dump);
+        writer.sendOSC (layerSlot + LAYER_VOLUME, channel.getVolume (), dump);
+        writer.sendOSC (layerSlot + LAYER_PAN_STR, channel.getPanStr (), dump);
+        writer.sendOSC (layerSlot + LAYER_PAN, channel.getPan (), dump);
+        writer.sendOSC (layerSlot + LAYER_MUTE, channel.isMute (), dump);
+        writer.sendOSC (layerSlot + LAYER_SOLO, channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, addresses.sends.get (i).intValue (), sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (layerSlot + LAYER_VU, channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (layerSlot + LAYER_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
     }
 
 
@@ -500,4 +550,52 @@ public class DeviceModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * The registered addresses of a device, its siblings, parameters and parameter pages.
+     */
+    private class DeviceAddresses
+    {
+        private final int                        slot;
+        private final NumberedAddresses<Integer> siblings;
+        private final NumberedAddresses<Integer> parameters;
+        private final NumberedAddresses<Integer> pages;
+
+
+        /**
+         * Constructor.
+         *
+         * @param deviceAddress The address of the device, e.g. /device/
+         */
+        public DeviceAddresses (final String deviceAddress)
+        {
+            this.slot = DeviceModule.this.writer.registerAddresses (deviceAddress, DEVICE_LAYOUT);
+            this.siblings = DeviceModule.this.createNumberedAddresses (deviceAddress + "sibling/", SIBLING_LAYOUT);
+            this.parameters = DeviceModule.this.createNumberedAddresses (deviceAddress + "param/", PARAMETER_LAYOUT);
+            this.pages = DeviceModule.this.createNumberedAddresses (deviceAddress + "page/", PAGE_LAYOUT);
+        }
+    }
+
+
+    /**
+     * The registered addresses of a layer and its sends.
+     */
+    private class LayerAddresses
+    {
+        private final int                        slot;
+        private final NumberedAddresses<Integer> sends;
+
+
+        /**
+         * Constructor.
+         *
+         * @param layerAddress The address of the layer, e.g. /device/layer/1/
+         */
+        public LayerAddresses (final String layerAddress)
+        {
+            this.slot = DeviceModule.this.writer.registerAddresses (layerAddress, LAYER_LAYOUT);
+            this.sends = DeviceModule.this.createNumberedAddresses (layerAddress + "send/", SEND_LAYOUT);
+        }
+    }
 }
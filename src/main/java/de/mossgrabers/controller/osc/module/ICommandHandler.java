@@ -0,0 +1,30 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+
+/**
+ * Executes the OSC command of an address pattern, which was registered with a module.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface ICommandHandler
+{
+    /**
+     * Execute the command.
+     *
+     * @param numbers The numbers of the address, e.g. the track number 3 of /track/3/volume
+     * @param value A value parameter for the command, may be null
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    void execute (int [] numbers, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+}
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.osc.AddressTrie;
 
 import java.util.LinkedList;
 
@@ -39,6 +40,16 @@ public interface IModule
     void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
+    /**
+     * Register the handlers of frequently received commands, e.g. of faders. These commands are
+     * dispatched directly by their address, all other commands are executed with the execute
+     * method.
+     *
+     * @param handlers Where to register the handlers
+     */
+    void registerHandlers (AddressTrie<ICommandHandler> handlers);
+
+
     /**
      * Send all related data of this module via OSC messages.
      *
@@ -32,6 +32,10 @@ public class MidiModule extends AbstractModule
 {
     private final KeyManager                        keyManager;
     private final IControlSurface<OSCConfiguration> surface;
+    private final int []                            noteColorSlots = new int [127];
+    private final int                               noteRepeatActiveSlot;
+    private final int                               noteRepeatPeriodSlot;
+    private final int                               noteRepeatLengthSlot;
 
 
     /**
@@ -49,6 +53,12 @@ public class MidiModule extends AbstractModule
 
         this.surface = surface;
         this.keyManager = keyManager;
+
+        for (int i = 0; i < this.noteColorSlots.length; i++)
+            this.noteColorSlots[i] = writer.registerAddress ("/vkb_midi/note/" + i + "/color");
+        this.noteRepeatActiveSlot = writer.registerAddress ("/vkb_midi/noterepeat/isActive");
+        this.noteRepeatPeriodSlot = writer.registerAddress ("/vkb_midi/noterepeat/period");
+        this.noteRepeatLengthSlot = writer.registerAddress ("/vkb_midi/noterepeat/length");
     }
 
 
@@ -83,11 +93,10 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
-        for (int i = 0; i < 127; i++)
+        for (int i = 0; i < this.noteColorSlots.length; i++)
         {
             final double [] color = this.getNoteColor (i);
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.writer.sendOSCColor (this.noteColorSlots[i], color[0], color[1], color[2], dump);
         }
 
         // Flush note repeat
@@ -95,11 +104,9 @@ public class MidiModule extends AbstractModule
         if (noteInput == null)
             return;
         final INoteRepeat noteRepeat = noteInput.getNoteRepeat ();
-        final String noteRepeatAddress = "/vkb_midi/noterepeat/";
-
-        this.writer.sendOSC (noteRepeatAddress + "isActive", noteRepeat.isActive (), dump);
-        this.writer.sendOSC (noteRepeatAddress + "period", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
-        this.writer.sendOSC (noteRepeatAddress + "length", Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
+        this.writer.sendOSC (this.noteRepeatActiveSlot, noteRepeat.isActive (), dump);
+        this.writer.sendOSC (this.noteRepeatPeriodSlot, Resolution.getNameAt (Resolution.getMatch (noteRepeat.getPeriod ())), dump);
+        this.writer.sendOSC (this.noteRepeatLengthSlot, Resolution.getNameAt (Resolution.getMatch (noteRepeat.getNoteLength ())), dump);
     }
 
 
@@ -20,8 +20,13 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.empty.EmptyTrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.ItemChangeObserver;
+import de.mossgrabers.framework.osc.AddressLayout;
+import de.mossgrabers.framework.osc.AddressTrie;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.NumberedAddresses;
 
+import java.util.BitSet;
 import java.util.LinkedList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -34,9 +39,60 @@ import java.util.regex.Pattern;
  */
 public class TrackModule extends AbstractModule
 {
-    private static final Pattern   RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
-
-    private final OSCConfiguration configuration;
+    private static final Pattern                    RGB_COLOR_PATTERN        = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+
+    private static final String []                  TYPE_NAMES               = new String [ChannelType.values ().length];
+
+    private static final AddressLayout              TRACK_LAYOUT             = new AddressLayout ();
+    private static final int                        TRACK_EXISTS             = TRACK_LAYOUT.add ("exists");
+    private static final int                        TRACK_TYPE               = TRACK_LAYOUT.add ("type");
+    private static final int                        TRACK_ACTIVATED          = TRACK_LAYOUT.add ("activated");
+    private static final int                        TRACK_SELECTED           = TRACK_LAYOUT.add ("selected");
+    private static final int                        TRACK_IS_GROUP           = TRACK_LAYOUT.add ("isGroup");
+    private static final int                        TRACK_NAME               = TRACK_LAYOUT.add ("name");
+    private static final int                        TRACK_VOLUME_STR         = TRACK_LAYOUT.add ("volumeStr");
+    private static final int                        TRACK_VOLUME             = TRACK_LAYOUT.add ("volume");
+    private static final int                        TRACK_PAN_STR            = TRACK_LAYOUT.add ("panStr");
+    private static final int                        TRACK_PAN                = TRACK_LAYOUT.add ("pan");
+    private static final int                        TRACK_MUTE               = TRACK_LAYOUT.add ("mute");
+    private static final int                        TRACK_SOLO               = TRACK_LAYOUT.add ("solo");
+    private static final int                        TRACK_RECARM             = TRACK_LAYOUT.add ("recarm");
+    private static final int                        TRACK_MONITOR            = TRACK_LAYOUT.add ("monitor");
+    private static final int                        TRACK_AUTO_MONITOR       = TRACK_LAYOUT.add ("autoMonitor");
+    private static final int                        TRACK_CAN_HOLD_NOTES     = TRACK_LAYOUT.add ("canHoldNotes");
+    private static final int                        TRACK_CAN_HOLD_AUDIO     = TRACK_LAYOUT.add ("canHoldAudioData");
+    private static final int                        TRACK_POSITION           = TRACK_LAYOUT.add ("position");
+    private static final int                        TRACK_COLOR              = TRACK_LAYOUT.add ("color");
+    private static final int                        TRACK_CROSSFADE_A        = TRACK_LAYOUT.add ("crossfadeMode/A");
+    private static final int                        TRACK_CROSSFADE_B        = TRACK_LAYOUT.add ("crossfadeMode/B");
+    private static final int                        TRACK_CROSSFADE_AB       = TRACK_LAYOUT.add ("crossfadeMode/AB");
+    private static final int                        TRACK_VU                 = TRACK_LAYOUT.add ("vu");
+
+    private static final AddressLayout              CLIP_LAYOUT              = new AddressLayout ();
+    private static final int                        CLIP_NAME                = CLIP_LAYOUT.add ("name");
+    private static final int                        CLIP_IS_SELECTED         = CLIP_LAYOUT.add ("isSelected");
+    private static final int                        CLIP_HAS_CONTENT         = CLIP_LAYOUT.add ("hasContent");
+    private static final int                        CLIP_IS_PLAYING          = CLIP_LAYOUT.add ("isPlaying");
+    private static final int                        CLIP_IS_RECORDING        = CLIP_LAYOUT.add ("isRecording");
+    private static final int                        CLIP_IS_PLAYING_QUEUED   = CLIP_LAYOUT.add ("isPlayingQueued");
+    private static final int                        CLIP_IS_RECORDING_QUEUED = CLIP_LAYOUT.add ("isRecordingQueued");
+    private static final int                        CLIP_IS_STOP_QUEUED      = CLIP_LAYOUT.add ("isStopQueued");
+    private static final int                        CLIP_COLOR               = CLIP_LAYOUT.add ("color");
+
+    private final OSCConfiguration                  configuration;
+    private final NumberedAddresses<TrackAddresses> trackAddresses;
+    private final TrackAddresses                    masterAddresses;
+    private final TrackAddresses                    selectedTrackAddresses;
+    private final int                               toggleBankSlot;
+    private final int                               hasParentSlot;
+    private final BitSet                            changedTracks            = new BitSet ();
+    private boolean                                 isMasterChanged          = true;
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
 
 
     /**
@@ -52,6 +108,22 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.trackAddresses = new NumberedAddresses<> ("/track/", TrackAddresses::new);
+        this.masterAddresses = new TrackAddresses ("/master/");
+        this.selectedTrackAddresses = new TrackAddresses ("/track/selected/");
+        this.toggleBankSlot = writer.registerAddress ("/track/toggleBank");
+        this.hasParentSlot = writer.registerAddress ("/track/hasParent");
+
+        this.observeTrackBank (model.getTrackBank ());
+        final ITrackBank effectTrackBank = model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+            this.observeTrackBank (effectTrackBank);
+        observeTrack (model.getMasterTrack (), index -> this.isMasterChanged = true);
+
+        model.addTrackBankObserver (trackBank -> this.markAllTracksChanged ());
+        configuration.addSettingObserver (OSCConfiguration.VALUE_RESOLUTION, this::markAllTracksChanged);
+        configuration.addSettingObserver (OSCConfiguration.TRACK_UPDATES, this::markAllTracksChanged);
     }
 
 
@@ -96,18 +168,52 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerHandlers (final AddressTrie<ICommandHandler> handlers)
+    {
+        handlers.add ("/track/#/volume", (numbers, value) -> this.getTrack (numbers[0]).setVolume (toInteger (value)));
+        handlers.add ("/track/#/volume/touched", (numbers, value) -> this.getTrack (numbers[0]).touchVolume (isTrigger (value)));
+        handlers.add ("/track/#/pan", (numbers, value) -> this.getTrack (numbers[0]).setPan (toInteger (value)));
+        handlers.add ("/track/#/pan/touched", (numbers, value) -> this.getTrack (numbers[0]).touchPan (isTrigger (value)));
+        handlers.add ("/track/#/send/#/volume", (numbers, value) -> {
+            final ISend send = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+        handlers.add ("/track/#/send/#/volume/touched", (numbers, value) -> {
+            final ISend send = this.getTrack (numbers[0]).getSendBank ().getItem (numbers[1] - 1);
+            if (send != null)
+                send.touchValue (isTrigger (value));
+        });
+
+        handlers.add ("/master/volume", (numbers, value) -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        handlers.add ("/master/volume/touched", (numbers, value) -> this.model.getMasterTrack ().touchVolume (isTrigger (value)));
+        handlers.add ("/master/pan", (numbers, value) -> this.model.getMasterTrack ().setPan (toInteger (value)));
+        handlers.add ("/master/pan/touched", (numbers, value) -> this.model.getMasterTrack ().touchPan (isTrigger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
+        // If enabled, only the tracks are flushed which notified a change since the last flush,
+        // otherwise all values of all tracks are polled. VU meters change continuously and are
+        // always polled
+        final boolean pollAll = dump || !this.configuration.isOnlyChangedTracks ();
+
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+            this.flushTrack (this.writer, this.trackAddresses.get (i), trackBank.getItem (i), pollAll || this.changedTracks.get (i), dump);
+        this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), pollAll || this.isMasterChanged, dump);
         final ITrack selectedTrack = trackBank.getSelectedItem ();
-        this.flushTrack (this.writer, "/track/selected/", selectedTrack == null ? EmptyTrack.INSTANCE : selectedTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
-        this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
+        this.flushTrack (this.writer, this.selectedTrackAddresses, selectedTrack == null ? EmptyTrack.INSTANCE : selectedTrack, pollAll || !this.changedTracks.isEmpty (), dump);
+        this.writer.sendOSC (this.toggleBankSlot, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.writer.sendOSC (this.hasParentSlot, trackBank.hasParent (), dump);
+
+        this.changedTracks.clear ();
+        this.isMasterChanged = false;
     }
 
 
@@ -115,63 +221,110 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The registered addresses of the track
      * @param track The track
+     * @param hasChanged False to only flush the VU meter, since no other value has changed
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean hasChanged, final boolean dump)
     {
-        writer.sendOSC (trackAddress + "exists", track.doesExist (), dump);
+        final int trackSlot = addresses.slot;
+        writer.sendOSC (trackSlot + TRACK_VU, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        if (!hasChanged)
+            return;
+
+        writer.sendOSC (trackSlot + TRACK_EXISTS, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + "selected", track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + "name", track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + "volume", track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (trackSlot + TRACK_TYPE, type == null ? null : TYPE_NAMES[type.ordinal ()], dump);
+        writer.sendOSC (trackSlot + TRACK_ACTIVATED, track.isActivated (), dump);
+        writer.sendOSC (trackSlot + TRACK_SELECTED, track.isSelected (), dump);
+        writer.sendOSC (trackSlot + TRACK_IS_GROUP, track.isGroup (), dump);
+        writer.sendOSC (trackSlot + TRACK_NAME, track.getName (), dump);
+        writer.sendOSC (trackSlot + TRACK_VOLUME_STR, track.getVolumeStr (), dump);
+        writer.sendOSC (trackSlot + TRACK_VOLUME, track.getVolume (), dump);
+        writer.sendOSC (trackSlot + TRACK_PAN_STR, track.getPanStr (), dump);
+        writer.sendOSC (trackSlot + TRACK_PAN, track.getPan (), dump);
+        writer.sendOSC (trackSlot + TRACK_MUTE, track.isMute (), dump);
+        writer.sendOSC (trackSlot + TRACK_SOLO, track.isSolo (), dump);
+        writer.sendOSC (trackSlot + TRACK_RECARM, track.isRecArm (), dump);
+        writer.sendOSC (trackSlot + TRACK_MONITOR, track.isMonitor (), dump);
+        writer.sendOSC (trackSlot + TRACK_AUTO_MONITOR, track.isAutoMonitor (), dump);
+        writer.sendOSC (trackSlot + TRACK_CAN_HOLD_NOTES, track.canHoldNotes (), dump);
+        writer.sendOSC (trackSlot + TRACK_CAN_HOLD_AUDIO, track.canHoldAudioData (), dump);
+        writer.sendOSC (trackSlot + TRACK_POSITION, track.getPosition (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (writer, addresses.sends.get (i).intValue (), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + "name", slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final int clipSlot = addresses.clips.get (i).intValue ();
+            writer.sendOSC (clipSlot + CLIP_NAME, slot.getName (), dump);
+            writer.sendOSC (clipSlot + CLIP_IS_SELECTED, slot.isSelected (), dump);
+            writer.sendOSC (clipSlot + CLIP_HAS_CONTENT, slot.hasContent (), dump);
+            writer.sendOSC (clipSlot + CLIP_IS_PLAYING, slot.isPlaying (), dump);
+            writer.sendOSC (clipSlot + CLIP_IS_RECORDING, slot.isRecording (), dump);
+            writer.sendOSC (clipSlot + CLIP_IS_PLAYING_QUEUED, slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipSlot + CLIP_IS_RECORDING_QUEUED, slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipSlot + CLIP_IS_STOP_QUEUED, slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipSlot + CLIP_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (trackSlot + TRACK_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeMode ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (trackSlot + TRACK_CROSSFADE_A, "A".equals (crossfadeMode), dump);
+        writer.sendOSC (trackSlot + TRACK_CROSSFADE_B, "B".equals (crossfadeMode), dump);
+        writer.sendOSC (trackSlot + TRACK_CROSSFADE_AB, "AB".equals (crossfadeMode), dump);
+    }
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+
+    /**
+     * Observe the changes of all tracks of a bank page.
+     *
+     * @param trackBank The track bank
+     */
+    private void observeTrackBank (final ITrackBank trackBank)
+    {
+        for (int i = 0; i < trackBank.getPageSize (); i++)
+        {
+            final int trackIndex = i;
+            observeTrack (trackBank.getItem (i), index -> {
+                if (trackBank == this.model.getCurrentTrackBank ())
+                    this.changedTracks.set (trackIndex);
+            });
+        }
+    }
+
+
+    /**
+     * Observe the changes of a track including its sends and clips.
+     *
+     * @param track The track
+     * @param observer The observer to notify on a change
+     */
+    private static void observeTrack (final ITrack track, final ItemChangeObserver observer)
+    {
+        track.addChangeObserver (observer);
+        final ISendBank sendBank = track.getSendBank ();
+        for (int i = 0; i < sendBank.getPageSize (); i++)
+            sendBank.getItem (i).addChangeObserver (observer);
+        final ISlotBank slotBank = track.getSlotBank ();
+        for (int i = 0; i < slotBank.getPageSize (); i++)
+            slotBank.getItem (i).addChangeObserver (observer);
+    }
+
+
+    private void markAllTracksChanged ()
+    {
+        this.changedTracks.set (0, this.model.getCurrentTrackBank ().getPageSize ());
+        this.isMasterChanged = true;
     }
 
 
@@ -325,6 +478,18 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /**
+     * Get a track of the current track bank.
+     *
+     * @param number The number of the track in the address, starting at 1
+     * @return The track
+     */
+    private ITrack getTrack (final int number)
+    {
+        return this.model.getCurrentTrackBank ().getItem (number - 1);
+    }
+
+
     private static void parseTrackValue (final ITrack track, final LinkedList<String> path, final Object value) throws IllegalParameterException, MissingCommandException, UnknownCommandException
     {
         final String command = getSubCommand (path);
@@ -505,4 +670,28 @@ public class TrackModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * The registered addresses of a track, its sends and clips.
+     */
+    private class TrackAddresses
+    {
+        private final int                        slot;
+        private final NumberedAddresses<Integer> sends;
+        private final NumberedAddresses<Integer> clips;
+
+
+        /**
+         * Constructor.
+         *
+         * @param trackAddress The address of the track, e.g. /track/1/
+         */
+        public TrackAddresses (final String trackAddress)
+        {
+            this.slot = TrackModule.this.writer.registerAddresses (trackAddress, TRACK_LAYOUT);
+            this.sends = TrackModule.this.createNumberedAddresses (trackAddress + "send/", SEND_LAYOUT);
+            this.clips = TrackModule.this.createNumberedAddresses (trackAddress + "clip/", CLIP_LAYOUT);
+        }
+    }
 }
@@ -11,7 +11,9 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.osc.AddressTrie;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.NumberedAddresses;
 
 import java.util.LinkedList;
 
@@ -23,6 +25,11 @@ import java.util.LinkedList;
  */
 public class UserModule extends AbstractModule
 {
+    private final NumberedAddresses<Integer> parameterAddresses;
+    private final NumberedAddresses<Integer> pageAddresses;
+    private final int                        selectedPageNameSlot;
+
+
     /**
      * Constructor.
      *
@@ -33,6 +40,10 @@ public class UserModule extends AbstractModule
     public UserModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.parameterAddresses = this.createNumberedAddresses ("/user/", PARAMETER_LAYOUT);
+        this.pageAddresses = this.createNumberedAddresses ("/user/page/", PAGE_LAYOUT);
+        this.selectedPageNameSlot = writer.registerAddress ("/user/page/selected/name");
     }
 
 
@@ -65,26 +76,30 @@ public class UserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    public void registerHandlers (final AddressTrie<ICommandHandler> handlers)
     {
-        final String userAddress = "/user/";
+        handlers.add ("/user/#/value", (numbers, value) -> this.model.getUserParameterBank ().getItem (numbers[0] - 1).setValue (toInteger (value)));
+        handlers.add ("/user/#/touched", (numbers, value) -> this.model.getUserParameterBank ().getItem (numbers[0] - 1).touchValue (isTrigger (value)));
+    }
+
 
+    /** {@inheritDoc} */
+    @Override
+    public void flush (final boolean dump)
+    {
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, userAddress + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (this.writer, this.parameterAddresses.get (i).intValue (), parameterBank.getItem (i), dump);
 
         final int numPages = parameterBank.getItemCount () / parameterBank.getPageSize ();
         final int selectedPage = parameterBank.getScrollPosition () / parameterBank.getPageSize ();
         for (int i = 0; i < numPages; i++)
         {
-            final int oneplus = i + 1;
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/", "Page " + (i + 1), dump);
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/selected", selectedPage == i, dump);
+            final int pageSlot = this.pageAddresses.get (i).intValue ();
+            this.writer.sendOSC (pageSlot + PAGE_NAME, "Page " + (i + 1), dump);
+            this.writer.sendOSC (pageSlot + PAGE_SELECTED, selectedPage == i, dump);
         }
-        this.writer.sendOSC (userAddress + "page/selected/name", "Page " + (selectedPage + 1), dump);
+        this.writer.sendOSC (this.selectedPageNameSlot, "Page " + (selectedPage + 1), dump);
     }
 
 
@@ -8,11 +8,13 @@ import de.mossgrabers.controller.osc.OSCControlSurface;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.module.ICommandHandler;
 import de.mossgrabers.controller.osc.module.IModule;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
+import de.mossgrabers.framework.osc.AddressTrie;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
@@ -32,8 +34,10 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final OSCControlSurface            surface;
+    private final Map<String, IModule>         modules  = new HashMap<> ();
+    private final AddressTrie<ICommandHandler> handlers = new AddressTrie<> ();
+    private int []                             numbers  = new int [0];
 
 
     /**
@@ -64,21 +68,29 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
         final Object value = values == null || values.length == 0 ? null : values[0];
         try
         {
+            // Frequent commands are dispatched without splitting the address
+            final ICommandHandler handler = this.handlers.match (message.getAddress (), this.numbers);
+            if (handler != null)
+            {
+                handler.execute (this.numbers, value);
+                return;
+            }
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
+            if ("refresh".equals (command))
+            {
+                this.writer.flush (true);
+                return;
+            }
+
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
@@ -124,5 +136,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerHandlers (this.handlers);
+        this.numbers = new int [this.handlers.getMaxNumbers ()];
     }
 }
\ No newline at end of file
@@ -38,6 +38,7 @@ import de.mossgrabers.controller.push.controller.Push1Display;
 import de.mossgrabers.controller.push.controller.Push2Display;
 import de.mossgrabers.controller.push.controller.PushColorManager;
 import de.mossgrabers.controller.push.controller.PushControlSurface;
+import de.mossgrabers.controller.push.controller.PushUsbDisplay;
 import de.mossgrabers.controller.push.mode.AccentMode;
 import de.mossgrabers.controller.push.mode.AutomationSelectionMode;
 import de.mossgrabers.controller.push.mode.ConfigurationMode;
@@ -237,7 +238,12 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         this.surfaces.add (surface);
 
         if (this.isPush2)
+        {
             surface.addGraphicsDisplay (new Push2Display (this.host, this.valueChanger.getUpperBound (), this.configuration));
+            // Refresh clearly more often than the keep-alive, otherwise a slightly early refresh
+            // skips the keep-alive frame until the next one
+            surface.setRefreshInterval (PushUsbDisplay.DEFAULT_KEEP_ALIVE_INTERVAL / 2);
+        }
         else
             surface.addTextDisplay (new Push1Display (this.host, this.valueChanger.getUpperBound (), output, this.configuration));
 
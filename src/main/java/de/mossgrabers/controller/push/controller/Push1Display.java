@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -50,6 +51,7 @@ public class Push1Display extends AbstractTextDisplay
         "F0 47 7F 15 1B 00 45 00 "
     };
 
+    private final SysexBuilder []  sysexBuilders = new SysexBuilder [SYSEX_MESSAGE.length];
     private int                    maxParameterValue;
 
 
@@ -67,6 +69,9 @@ public class Push1Display extends AbstractTextDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
 
         this.maxParameterValue = maxParameterValue;
+
+        for (int i = 0; i < SYSEX_MESSAGE.length; i++)
+            this.sysexBuilders[i] = new SysexBuilder (SYSEX_MESSAGE[i]);
     }
 
 
@@ -147,7 +152,14 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        // Might be called from the flush thread and the notification thread at the same time
+        final SysexBuilder builder = this.sysexBuilders[row];
+        final byte [] data;
+        synchronized (builder)
+        {
+            data = builder.putAscii (text).finish ();
+        }
+        this.output.sendSysex (data);
     }
 
 
@@ -61,6 +61,17 @@ public class Push2Display extends AbstractGraphicDisplay
     }
 
 
+    /**
+     * Get the USB connection to the display, e.g. to query the transfer statistics.
+     *
+     * @return The USB display or null if it could not be opened
+     */
+    public PushUsbDisplay getUsbDisplay ()
+    {
+        return this.usbDisplay;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void send (final IBitmap image)
@@ -12,22 +12,36 @@ import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. Frames are encoded into one of two memory blocks
+ * while the other one might still be transferred. The transfer runs on its own thread which always
+ * picks the latest encoded frame, frames which were not picked up in time are dropped.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int     DATA_SZ        = 20 * 0x4000;
+    private static final int      DATA_SZ                     = 20 * 0x4000;
 
-    private static final int     TIMEOUT        = 1000;
+    private static final int      TIMEOUT                     = 1000;
 
-    private static final byte [] DISPLAY_HEADER =
+    /**
+     * The default interval in milliseconds after which an unchanged image is sent again. The Push 2
+     * display turns black if it does not receive a frame for 2 seconds.
+     */
+    public static final int       DEFAULT_KEEP_ALIVE_INTERVAL = 1000;
+
+    private static final byte []  DISPLAY_HEADER              =
     {
         (byte) 0xef,
         (byte) 0xcd,
@@ -47,11 +61,34 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice           usbDevice;
-    private IUsbEndpoint         usbEndpoint;
-    private final IMemoryBlock   headerBlock;
-    private final IMemoryBlock   imageBlock;
-    private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private final IHost           host;
+    private IUsbDevice            usbDevice;
+    private IUsbEndpoint          usbEndpoint;
+    private final IMemoryBlock    headerBlock;
+    private final DisplayFrame [] frames                      = new DisplayFrame [2];
+    private final ExecutorService transferExecutor            = Executors.newSingleThreadExecutor ();
+
+    private final Object          frameLock                   = new Object ();
+    private DisplayFrame          pendingFrame;
+    private DisplayFrame          transferFrame;
+    private boolean               isTransferScheduled;
+
+    private DisplayFrame          lastEncodedFrame;
+    private long                  encodedGeneration           = -1;
+    private long                  lastSendTime;
+    private int                   keepAliveInterval           = DEFAULT_KEEP_ALIVE_INTERVAL;
+
+    private int []                line;
+    private byte []               encodedLine;
+
+    private final AtomicLong      sentFrames                  = new AtomicLong ();
+    private final AtomicLong      skippedFrames               = new AtomicLong ();
+    private final AtomicLong      droppedFrames               = new AtomicLong ();
+    private long                  measureStart;
+    private int                   measureFrames;
+    private long                  measureTransferTime;
+    private volatile double       framesPerSecond;
+    private volatile double       transferLatency;
 
 
     /**
@@ -61,6 +98,8 @@ public class PushUsbDisplay
      */
     public PushUsbDisplay (final IHost host)
     {
+        this.host = host;
+
         try
         {
             this.usbDevice = host.getUsbDevice (0);
@@ -75,79 +114,316 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+        for (int i = 0; i < this.frames.length; i++)
+            this.frames[i] = new DisplayFrame (host.createMemoryBlock (DATA_SZ));
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Send the buffered image to the screen. The image is only encoded and sent if it was rendered
+     * since the last transfer or if the keep alive interval has elapsed. The method never blocks
+     * on the USB transfer.
      *
      * @param image An image of size 960 x 160 pixel
      */
     public void send (final IBitmap image)
     {
-        synchronized (this.isSending)
+        if (this.usbDevice == null || this.usbEndpoint == null || this.transferExecutor.isShutdown ())
+            return;
+
+        final long generation = image.getGeneration ();
+        final long now = System.currentTimeMillis ();
+        final boolean isChanged = generation != this.encodedGeneration;
+        if (!isChanged && now - this.lastSendTime < this.keepAliveInterval)
+        {
+            this.skippedFrames.incrementAndGet ();
+            return;
+        }
+        this.lastSendTime = now;
+
+        // The last encoded frame is still in its memory block, therefore a keep alive transfer
+        // does not need to encode it again
+        if (!isChanged)
+        {
+            synchronized (this.frameLock)
+            {
+                if (this.pendingFrame == null && this.transferFrame != this.lastEncodedFrame)
+                    this.schedule (this.lastEncodedFrame);
+            }
+            return;
+        }
+
+        // Take back a frame which was not yet transferred, otherwise use the one which is not
+        // currently in transfer
+        final DisplayFrame frame;
+        synchronized (this.frameLock)
+        {
+            if (this.pendingFrame == null)
+                frame = this.frames[0] == this.transferFrame ? this.frames[1] : this.frames[0];
+            else
+            {
+                frame = this.pendingFrame;
+                this.pendingFrame = null;
+                this.droppedFrames.incrementAndGet ();
+            }
+        }
+
+        this.encode (image, frame);
+        this.encodedGeneration = generation;
+        this.lastEncodedFrame = frame;
+
+        synchronized (this.frameLock)
+        {
+            this.schedule (frame);
+        }
+    }
+
+
+    /**
+     * Stops all transfers to the device. A frame which is waiting for its transfer is still sent.
+     * Nulls the device.
+     */
+    public void shutdown ()
+    {
+        this.transferExecutor.shutdown ();
+        try
         {
-            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
-                return;
+            if (!this.transferExecutor.awaitTermination (2L * TIMEOUT, TimeUnit.MILLISECONDS))
+                this.host.error ("Could not finish the USB display transfer.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("USB display shutdown interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+
+        this.usbDevice = null;
+        this.usbEndpoint = null;
+    }
+
+
+    /**
+     * Set the interval after which an unchanged image is sent again to keep the display alive.
+     *
+     * @param keepAliveInterval The interval in milliseconds
+     */
+    public void setKeepAliveInterval (final int keepAliveInterval)
+    {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+
+    /**
+     * Get the number of frames which were sent to the device.
+     *
+     * @return The number of sent frames
+     */
+    public long getSentFrames ()
+    {
+        return this.sentFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were not sent since the image did not change.
+     *
+     * @return The number of skipped frames
+     */
+    public long getSkippedFrames ()
+    {
+        return this.skippedFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were replaced by a newer frame before they could be
+     * transferred.
+     *
+     * @return The number of dropped frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.droppedFrames.get ();
+    }
+
 
-            this.isSending.set (true);
+    /**
+     * Get the number of frames per second which were transferred. Measured over the last
+     * completed measurement period of one second.
+     *
+     * @return The frames per second
+     */
+    public double getFramesPerSecond ()
+    {
+        return this.framesPerSecond;
+    }
+
+
+    /**
+     * Get the average time it took to transfer a frame (header and image) to the device. Measured
+     * over the last completed measurement period of one second.
+     *
+     * @return The latency in milliseconds
+     */
+    public double getTransferLatency ()
+    {
+        return this.transferLatency;
+    }
 
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
 
-            image.encode ( (imageBuffer, width, height) -> {
-                buffer.clear ();
+    /**
+     * Put a frame in the mailbox for the transfer thread. Must be called while holding the frame
+     * lock.
+     *
+     * @param frame The frame to transfer
+     */
+    private void schedule (final DisplayFrame frame)
+    {
+        this.pendingFrame = frame;
+        if (this.isTransferScheduled || this.transferExecutor.isShutdown ())
+            return;
+        this.isTransferScheduled = true;
+        this.transferExecutor.execute (this::transferFrames);
+    }
 
-                final int padding = (buffer.capacity () - height * width * 2) / height;
 
-                for (int y = 0; y < height; y++)
+    /**
+     * Transfers frames from the mailbox until it is empty.
+     */
+    private void transferFrames ()
+    {
+        while (true)
+        {
+            final DisplayFrame frame;
+            synchronized (this.frameLock)
+            {
+                frame = this.pendingFrame;
+                this.pendingFrame = null;
+                this.transferFrame = frame;
+                if (frame == null)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-                        buffer.put ((byte) (pixel & 0x00FF));
-                        buffer.put ((byte) ((pixel & 0xFF00) >> 8));
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                        buffer.put ((byte) 0x00);
+                    this.isTransferScheduled = false;
+                    return;
                 }
+            }
 
-                imageBuffer.rewind ();
-            });
+            final IUsbEndpoint endpoint = this.usbEndpoint;
+            if (endpoint == null)
+                continue;
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
-            this.isSending.set (false);
+            final long start = System.nanoTime ();
+            endpoint.send (this.headerBlock, TIMEOUT);
+            endpoint.send (frame.block, TIMEOUT);
+            this.sentFrames.incrementAndGet ();
+            this.measure (start, System.nanoTime ());
         }
     }
 
 
+    private void measure (final long transferStart, final long transferEnd)
+    {
+        if (this.measureFrames == 0 && this.measureStart == 0)
+            this.measureStart = transferStart;
+
+        this.measureFrames++;
+        this.measureTransferTime += transferEnd - transferStart;
+
+        final long duration = transferEnd - this.measureStart;
+        if (duration < TimeUnit.SECONDS.toNanos (1))
+            return;
+
+        this.framesPerSecond = this.measureFrames * (double) TimeUnit.SECONDS.toNanos (1) / duration;
+        this.transferLatency = this.measureTransferTime / (double) this.measureFrames / TimeUnit.MILLISECONDS.toNanos (1);
+        this.measureStart = 0;
+        this.measureFrames = 0;
+        this.measureTransferTime = 0;
+    }
+
+
     /**
-     * Stops all transfers to the device. Nulls the device.
+     * Encodes the image into the memory block of a frame. The bitmap is read as 32-bit integers
+     * (ARGB in little endian byte order) and converted to 16-bit (BGR565) one line at a time.
+     * Lines which are identical to the image previously encoded into the same frame are not
+     * touched, since the memory block still contains their encoded data.
+     *
+     * @param image The image to encode
+     * @param frame The frame to encode into
      */
-    public void shutdown ()
+    private void encode (final IBitmap image, final DisplayFrame frame)
     {
-        synchronized (this.isSending)
-        {
-            this.usbDevice = null;
-            this.usbEndpoint = null;
-        }
+        final ByteBuffer buffer = frame.block.createByteBuffer ();
+
+        image.encode ( (imageBuffer, width, height) -> {
+            final IntBuffer pixels = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+            final int padding = (buffer.capacity () - height * width * 2) / height;
+            final int lineSize = width * 2 + padding;
+
+            if (this.encodedLine == null || this.encodedLine.length != lineSize)
+            {
+                this.line = new int [width];
+                this.encodedLine = new byte [lineSize];
+            }
+
+            final int size = width * height;
+            final boolean isFullFrame = frame.lastImage.length != size;
+            if (isFullFrame)
+                frame.lastImage = new int [size];
+
+            for (int y = 0; y < height; y++)
+            {
+                final int lineStart = y * width;
+                pixels.get (this.line, 0, width);
+                if (!isFullFrame && Arrays.equals (this.line, 0, width, frame.lastImage, lineStart, lineStart + width))
+                    continue;
+                System.arraycopy (this.line, 0, frame.lastImage, lineStart, width);
+
+                // The padding bytes at the end of the line stay always 0
+                for (int x = 0; x < width; x++)
+                {
+                    final int pixel = sPixelFromARGB (this.line[x]);
+                    this.encodedLine[2 * x] = (byte) (pixel & 0x00FF);
+                    this.encodedLine[2 * x + 1] = (byte) ((pixel & 0xFF00) >> 8);
+                }
+
+                buffer.position (y * lineSize);
+                buffer.put (this.encodedLine);
+            }
+        });
+    }
+
+
+    /**
+     * Converts a 32-bit ARGB value to 16-bit BGR565.
+     *
+     * @param argb The ARGB value
+     * @return The 16-bit pixel
+     */
+    private static int sPixelFromARGB (final int argb)
+    {
+        final int blue = (argb & 0xF8) << 8;
+        final int green = (argb >> 5) & 0x07E0;
+        final int red = (argb >> 19) & 0x1F;
+        return blue | green | red;
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * A memory block with an encoded image and the image data it was encoded from.
+     */
+    private static class DisplayFrame
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        private final IMemoryBlock block;
+        private int []             lastImage = new int [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param block The memory block to encode into
+         */
+        public DisplayFrame (final IMemoryBlock block)
+        {
+            this.block = block;
+        }
     }
 }
@@ -188,7 +188,7 @@ public class DrumView4 extends DrumViewBase
                 if (col < 8)
                     y += 5;
                 y += sound;
-                padGrid.lightEx (x, 8 - y, this.getStepColor (isSet, hilite));
+                padGrid.lightExToken (x, 8 - y, this.getStepColor (isSet, hilite));
             }
         }
     }
@@ -175,7 +175,7 @@ public class DrumView8 extends DrumViewBase
                 final int x = col % 8;
                 int y = col / 8;
                 y += sound;
-                this.surface.getPadGrid ().lightEx (x, 7 - y, this.getStepColor (isSet, hilite));
+                this.surface.getPadGrid ().lightExToken (x, 7 - y, this.getStepColor (isSet, hilite));
             }
         }
     }
@@ -50,7 +50,7 @@ public class PianoView extends PlayView
         final ITrack track = this.model.getSelectedTrack ();
         final int playKeyColor = colorManager.getColorIndex (isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY);
         final int whiteKeyColor = colorManager.getColorIndex (Scales.SCALE_COLOR_NOTE);
-        final int blackKeyColor = colorManager.getColorIndex (replaceOctaveColorWithTrackColor (track, Scales.SCALE_COLOR_OCTAVE));
+        final int blackKeyColor = colorManager.getColorIndex (replaceOctaveColorWithTrackColor (track, Scales.TOKEN_OCTAVE));
         final int offKeyColor = colorManager.getColorIndex (Scales.SCALE_COLOR_OFF);
 
         for (int i = 0; i < 8; i++)
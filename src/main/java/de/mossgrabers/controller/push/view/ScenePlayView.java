@@ -9,7 +9,6 @@ import de.mossgrabers.controller.push.controller.PushColorManager;
 import de.mossgrabers.controller.push.controller.PushControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.data.IScene;
@@ -54,11 +53,10 @@ public class ScenePlayView extends AbstractView<PushControlSurface, PushConfigur
             final IScene scene = this.sceneBank.getItem (i);
             if (scene.isSelected ())
                 padGrid.light (36 + i, isPush2 ? PushColorManager.PUSH2_COLOR2_WHITE : PushColorManager.PUSH1_COLOR2_WHITE);
+            else if (scene.doesExist ())
+                padGrid.light (36 + i, this.colorManager.getDAWColorIndex (scene.getColor ()));
             else
-            {
-                final String color = scene.doesExist () ? DAWColor.getColorIndex (scene.getColor ()) : IPadGrid.GRID_OFF;
-                padGrid.light (36 + i, color);
-            }
+                padGrid.light (36 + i, IPadGrid.GRID_OFF);
         }
     }
 
@@ -30,7 +30,7 @@ public class SLMkIIIPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int translateToGrid (final int note)
+    protected int mapToGrid (final int note)
     {
         // Row 2 sends notes: 0x60 - 0x67; returns 44-51
         if (note < 0x70)
@@ -43,7 +43,7 @@ public class SLMkIIIPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    protected int [] mapToController (final int note)
     {
         if (note > 43)
             return new int []
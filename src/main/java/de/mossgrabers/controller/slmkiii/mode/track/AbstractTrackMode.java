@@ -9,7 +9,6 @@ import de.mossgrabers.controller.slmkiii.controller.SLMkIIIControlSurface;
 import de.mossgrabers.controller.slmkiii.controller.SLMkIIIDisplay;
 import de.mossgrabers.controller.slmkiii.mode.BaseMode;
 import de.mossgrabers.framework.controller.ButtonID;
-import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -216,8 +215,7 @@ public abstract class AbstractTrackMode extends BaseMode
         {
             if (t.isSelected ())
             {
-                final String colorIndex = DAWColor.getColorIndex (t.getColor ());
-                return this.model.getColorManager ().getColorIndex (colorIndex);
+                return this.model.getColorManager ().getDAWColorIndex (t.getColor ());
             }
             return SLMkIIIColorManager.SLMKIII_WHITE_HALF;
         }
@@ -263,10 +261,7 @@ public abstract class AbstractTrackMode extends BaseMode
 
             int color;
             if (t.isActivated ())
-            {
-                final String colorIndex = DAWColor.getColorIndex (t.getColor ());
-                color = this.model.getColorManager ().getColorIndex (colorIndex);
-            }
+                color = this.model.getColorManager ().getDAWColorIndex (t.getColor ());
             else
                 color = SLMkIIIColorManager.SLMKIII_DARK_GREY;
 
@@ -330,10 +325,7 @@ public abstract class AbstractTrackMode extends BaseMode
         if (track.doesExist ())
         {
             if (track.isActivated ())
-            {
-                final String colorIndex = DAWColor.getColorIndex (track.getColor ());
-                color = this.model.getColorManager ().getColorIndex (colorIndex);
-            }
+                color = this.model.getColorManager ().getDAWColorIndex (track.getColor ());
             else
                 color = SLMkIIIColorManager.SLMKIII_DARK_GREY;
         }
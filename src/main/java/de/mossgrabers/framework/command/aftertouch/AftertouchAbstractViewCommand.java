@@ -8,10 +8,9 @@ import de.mossgrabers.framework.command.core.AbstractAftertouchCommand;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.utils.KeyManager;
 import de.mossgrabers.framework.view.AbstractView;
 
-import java.util.List;
-
 
 /**
  * Command to handle the aftertouch on a view.
@@ -78,9 +77,9 @@ public class AftertouchAbstractViewCommand<S extends IControlSurface<C>, C exten
         final Configuration config = this.surface.getConfiguration ();
         if (config.getConvertAftertouch () == -2)
         {
-            final List<Integer> keys = this.view.getKeyManager ().getPressedKeys ();
-            for (final Integer key: keys)
-                this.onPolyAftertouch (key.intValue (), value);
+            final KeyManager keyManager = this.view.getKeyManager ();
+            for (int key = keyManager.nextPressedKey (0); key >= 0; key = keyManager.nextPressedKey (key + 1))
+                this.onPolyAftertouch (key, value);
         }
         else
             this.onPolyAftertouch (0, value);
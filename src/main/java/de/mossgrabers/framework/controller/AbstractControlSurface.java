@@ -30,6 +30,7 @@ import de.mossgrabers.framework.daw.midi.INoteInput;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.utils.DurationHistogram;
 import de.mossgrabers.framework.utils.LatestTaskExecutor;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
@@ -88,6 +89,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     private final LatestTaskExecutor                flushExecutor         = new LatestTaskExecutor ();
     private final DummyDisplay                      dummyDisplay;
     private IHwPianoKeyboard                        pianoKeyboard;
+    private int                                     refreshInterval       = -1;
 
 
     /**
@@ -171,8 +173,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
                 final ButtonID buttonID = ButtonID.get (ButtonID.PAD1, i);
                 final IHwButton pad = this.createButton (buttonID, "P " + (i + 1));
                 pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.pads.getLightInfo (note).getEncoded (), state -> this.pads.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
-                final int [] translated = this.pads.translateToController (note);
-                pad.bind (input, BindType.NOTE, translated[0], translated[1]);
+                pad.bind (input, BindType.NOTE, this.pads.translateToControllerChannel (note), this.pads.translateToControllerNote (note));
                 pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
             }
         }
@@ -198,6 +199,26 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getRefreshInterval ()
+    {
+        return this.refreshInterval;
+    }
+
+
+    /**
+     * Set the maximum interval in which the surface needs to be flushed even if nothing changed in
+     * the DAW.
+     *
+     * @param refreshInterval The interval in milliseconds or -1 if there is no such requirement
+     */
+    public void setRefreshInterval (final int refreshInterval)
+    {
+        this.refreshInterval = refreshInterval;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ViewManager getViewManager ()
@@ -627,11 +648,27 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Get the histogram of the durations of the executed flushes. It is printed to the console
+     * when the surface is shut down.
+     *
+     * @return The histogram
+     */
+    public DurationHistogram getFlushDurations ()
+    {
+        return this.flushExecutor.getDurations ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearCache ()
     {
         this.surfaceFactory.clearCache ();
+        if (this.pads != null)
+            this.pads.clearCache ();
+        if (this.lightGuide != null)
+            this.lightGuide.clearCache ();
     }
 
 
@@ -651,6 +688,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             Thread.currentThread ().interrupt ();
         }
 
+        final DurationHistogram flushDurations = this.getFlushDurations ();
+        if (flushDurations.getTotalCount () > 0)
+            this.host.println ("Flush durations of surface " + this.surfaceID + ": " + flushDurations);
+
         this.internalShutdown ();
         this.flushHardware ();
     }
@@ -867,6 +908,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         this.textDisplays.forEach (ITextDisplay::flush);
         this.surfaceFactory.flush ();
+        if (this.pads != null)
+            this.pads.flush ();
+        if (this.lightGuide != null)
+            this.lightGuide.flush ();
         this.continuous.values ().forEach (IHwContinuousControl::update);
     }
 }
\ No newline at end of file
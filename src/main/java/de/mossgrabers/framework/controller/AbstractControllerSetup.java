@@ -18,6 +18,7 @@ import de.mossgrabers.framework.controller.hardware.IHwFader;
 import de.mossgrabers.framework.controller.hardware.IHwRelativeKnob;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.controller.valuechanger.RelativeEncoding;
+import de.mossgrabers.framework.daw.FlushScheduler;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.constants.EditCapability;
@@ -130,8 +131,12 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.registerTriggerCommands ();
         this.registerContinuousCommands ();
         this.layoutControls ();
-        if (this.model != null)
-            this.model.ensureClip ();
+        if (this.model == null)
+            return;
+        this.model.ensureClip ();
+        final FlushScheduler flushScheduler = this.model.getFlushScheduler ();
+        for (final S surface: this.surfaces)
+            flushScheduler.addRefreshInterval (surface::getRefreshInterval);
     }
 
 
@@ -152,6 +157,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     {
         for (final S surface: this.surfaces)
             surface.flush ();
+        if (this.model != null)
+            this.model.getFlushScheduler ().flushExecuted ();
     }
 
 
@@ -50,6 +50,15 @@ public interface IControlSurface<C extends Configuration>
     int getSurfaceID ();
 
 
+    /**
+     * Get the maximum interval in which the surface needs to be flushed even if nothing changed in
+     * the DAW, e.g. to keep a display alive.
+     *
+     * @return The interval in milliseconds or -1 if there is no such requirement
+     */
+    int getRefreshInterval ();
+
+
     /**
      * Get the view manager.
      *
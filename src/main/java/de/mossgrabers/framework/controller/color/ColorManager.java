@@ -7,26 +7,91 @@ package de.mossgrabers.framework.controller.color;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.daw.DAWColor;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
- * Manages color indices by IDs.
+ * Manages color indices by IDs. To prevent looking up the color IDs on every update, each ID is
+ * mapped to a unique integer, the color token. The tokens are shared by all color managers. The
+ * tokens of the DAW colors are identical to their ordinal.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String                BUTTON_STATE_OFF  = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String                BUTTON_STATE_ON   = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String                BUTTON_STATE_HI   = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    private static final int                  NOT_REGISTERED    = Integer.MIN_VALUE;
+    private static final Map<String, Integer> TOKENS            = new ConcurrentHashMap<> ();
+    private static final List<String>         TOKEN_KEYS        = new ArrayList<> ();
+
+    protected final ColorEx []                colorByIndex      = new ColorEx [128];
+    private int []                            colorIndexByToken = new int [0];
+
+    static
+    {
+        for (final DAWColor dawColor: DAWColor.values ())
+            getColorToken (dawColor.name ());
+    }
+
+
+    /**
+     * Get the color token for a color ID. The token is created if the ID is used for the first
+     * time.
+     *
+     * @param key The color ID
+     * @return The token
+     */
+    public static int getColorToken (final String key)
+    {
+        final Integer token = TOKENS.get (key);
+        if (token != null)
+            return token.intValue ();
+
+        synchronized (TOKEN_KEYS)
+        {
+            return TOKENS.computeIfAbsent (key, k -> {
+                TOKEN_KEYS.add (k);
+                return Integer.valueOf (TOKEN_KEYS.size () - 1);
+            }).intValue ();
+        }
+    }
+
+
+    /**
+     * Get the color token for a DAW color.
+     *
+     * @param dawColor The DAW color
+     * @return The token
+     */
+    public static int getColorToken (final DAWColor dawColor)
+    {
+        return dawColor.ordinal ();
+    }
+
+
+    /**
+     * Get the color ID of a color token.
+     *
+     * @param colorToken The token
+     * @return The color ID
+     */
+    public static String getColorKey (final int colorToken)
+    {
+        synchronized (TOKEN_KEYS)
+        {
+            return TOKEN_KEYS.get (colorToken);
+        }
+    }
 
 
     /**
@@ -37,9 +102,16 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        final int token = getColorToken (key);
+        if (token >= this.colorIndexByToken.length)
+        {
+            final int oldLength = this.colorIndexByToken.length;
+            this.colorIndexByToken = Arrays.copyOf (this.colorIndexByToken, Math.max (token + 1, 2 * oldLength));
+            Arrays.fill (this.colorIndexByToken, oldLength, this.colorIndexByToken.length, NOT_REGISTERED);
+        }
+        else if (this.colorIndexByToken[token] != NOT_REGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        this.colorIndexByToken[token] = colorIndex;
     }
 
 
@@ -63,10 +135,47 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
-            throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return this.getColorIndex (getColorToken (key));
+    }
+
+
+    /**
+     * Get the color index which is registered with the given color token.
+     *
+     * @param colorToken The color token
+     * @return The color index
+     */
+    public int getColorIndex (final int colorToken)
+    {
+        final int colorIndex = colorToken < this.colorIndexByToken.length ? this.colorIndexByToken[colorToken] : NOT_REGISTERED;
+        if (colorIndex == NOT_REGISTERED)
+            throw new ColorIndexException ("Color for key " + getColorKey (colorToken) + " is not registered!");
+        return colorIndex;
+    }
+
+
+    /**
+     * Get the color index which is registered for the given DAW color.
+     *
+     * @param dawColor The DAW color
+     * @return The color index
+     */
+    public int getColorIndex (final DAWColor dawColor)
+    {
+        return this.getColorIndex (dawColor.ordinal ());
+    }
+
+
+    /**
+     * Get the color index which is registered for the DAW color which is the closest to the given
+     * color.
+     *
+     * @param color The color
+     * @return The color index
+     */
+    public int getDAWColorIndex (final ColorEx color)
+    {
+        return this.getColorIndex (DAWColor.getDAWColor (color));
     }
 
 
@@ -80,7 +189,7 @@ public class ColorManager
     {
         if (colorIndex < 0 || colorIndex > 127)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -95,7 +204,7 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex < this.colorByIndex.length ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
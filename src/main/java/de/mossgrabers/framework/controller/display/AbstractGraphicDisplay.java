@@ -17,6 +17,7 @@ import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
@@ -37,6 +38,7 @@ import de.mossgrabers.framework.utils.Pair;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -154,8 +156,9 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         // Only render image if there is a change in the data
         if (!this.info.equals (newInfo))
         {
+            final ModelInfo oldInfo = this.info;
             this.info = newInfo;
-            this.renderImage ();
+            this.renderImage (oldInfo);
         }
 
         this.columns.clear ();
@@ -386,7 +389,56 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Render the image. Only the columns which differ from the previous model are repainted if the
+     * number of columns is unchanged and a notification message did not disappear or change.
+     *
+     * @param oldInfo The previously rendered model
+     */
+    private void renderImage (final ModelInfo oldInfo)
+    {
+        final List<IComponent> elements = this.info.getComponents ();
+        final List<IComponent> oldElements = oldInfo.getComponents ();
+        final String notification = this.info.getNotification ();
+        final String oldNotification = oldInfo.getNotification ();
+        final boolean notificationChanged = !Objects.equals (notification, oldNotification);
+
+        // A removed or changed notification covers all columns
+        if (elements.isEmpty () || elements.size () != oldElements.size () || notificationChanged && oldNotification != null)
+        {
+            this.renderFullImage ();
+            return;
+        }
+
+        this.image.render (gc -> {
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+
+            final int size = elements.size ();
+            int start = 0;
+            while (start < size)
+            {
+                if (elements.get (start).equals (oldElements.get (start)))
+                {
+                    start++;
+                    continue;
+                }
+
+                // Repaint a range of adjacent changed columns in one go
+                int end = start;
+                while (end + 1 < size && !elements.get (end + 1).equals (oldElements.get (end + 1)))
+                    end++;
+                this.renderColumns (graphicsInfo, elements, start, end, notificationChanged ? null : notification);
+                start = end + 1;
+            }
+
+            // A new notification is simply drawn on top
+            if (notificationChanged)
+                this.renderNotification (gc, notification);
+        });
+    }
+
+
+    private void renderFullImage ()
     {
         this.image.render (gc -> {
             final int width = this.dimensions.getWidth ();
@@ -409,12 +461,56 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             for (int i = 0; i < size; i++)
                 elements.get (i).draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
 
-            final String notification = this.info.getNotification ();
-            if (notification == null)
-                return;
-
-            final ColorEx colorText = this.configuration.getColorText ();
-            gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
+            this.renderNotification (gc, this.info.getNotification ());
         });
     }
+
+
+    /**
+     * Repaint a range of columns. Since components might paint into the separators left and right
+     * of them, the clipping area includes these separators and the neighbouring columns are drawn
+     * as well (only their part in the separators is visible).
+     *
+     * @param graphicsInfo The graphics information
+     * @param elements The components of all columns
+     * @param start The index of the first column to repaint
+     * @param end The index of the last column to repaint
+     * @param notification The notification to draw on top, may be null
+     */
+    private void renderColumns (final IGraphicsInfo graphicsInfo, final List<IComponent> elements, final int start, final int end, final String notification)
+    {
+        final IGraphicsContext gc = graphicsInfo.getContext ();
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+
+        final int size = elements.size ();
+        final int gridWidth = width / size;
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+
+        final double clipLeft = Math.max (0, start * gridWidth - offsetX);
+        final double clipRight = Math.min (width, (end + 1) * gridWidth + offsetX);
+        gc.setClip (clipLeft, 0, clipRight - clipLeft, height);
+
+        gc.fillRectangle (clipLeft, 0, clipRight - clipLeft, height, this.configuration.getColorBorder ());
+        final int last = Math.min (size - 1, end + 1);
+        for (int i = Math.max (0, start - 1); i <= last; i++)
+            elements.get (i).draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+
+        this.renderNotification (gc, notification);
+
+        gc.resetClip ();
+    }
+
+
+    private void renderNotification (final IGraphicsContext gc, final String notification)
+    {
+        if (notification == null)
+            return;
+
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, this.configuration.getColorText (), this.configuration.getColorBorder (), height / 4.0);
+    }
 }
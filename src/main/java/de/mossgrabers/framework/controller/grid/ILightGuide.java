@@ -51,6 +51,27 @@ public interface ILightGuide
     void light (int note, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The midi note of the LED
+     * @param colorToken The token of a registered color ID of the color / brightness
+     */
+    void lightToken (int note, int colorToken);
+
+
+    /**
+     * Set the lighting state of a LED.
+     *
+     * @param note The midi note of the LED
+     * @param colorToken The token of a registered color ID of the color / brightness
+     * @param blinkColorToken The token of a registered color ID of the blinking color /
+     *            brightness, -1 for no blinking
+     * @param fast Blinking is fast if true
+     */
+    void lightToken (int note, int colorToken, int blinkColorToken, boolean fast);
+
+
     /**
      * Resets the caching which forces a complete flush.
      */
@@ -80,6 +101,26 @@ public interface ILightGuide
     int [] translateToController (int note);
 
 
+    /**
+     * Get the midi channel of a note on the controller. Same as index 0 of the result of
+     * translateToController but without creating an array.
+     *
+     * @param note The outgoing note
+     * @return The midi channel
+     */
+    int translateToControllerChannel (int note);
+
+
+    /**
+     * Get the midi note of a note on the controller. Same as index 1 of the result of
+     * translateToController but without creating an array.
+     *
+     * @param note The outgoing note
+     * @return The note scaled to the controller
+     */
+    int translateToControllerNote (int note);
+
+
     /**
      * Get the number the number of columns of the grid.
      *
@@ -106,9 +147,39 @@ public interface ILightGuide
 
 
     /**
-     * Set the state to the controller.
+     * Set the state to the controller. The state is sent with the next flush if it is different from
+     * the last one which was sent.
      *
      * @param note The note (0-127)
      */
     void sendState (int note);
+
+
+    /**
+     * Send all changed states to the controller.
+     */
+    void flush ();
+
+
+    /**
+     * Forget the states which were sent to the controller. All states are sent again on the next
+     * flush.
+     */
+    void clearCache ();
+
+
+    /**
+     * Get the number of LEDs which were updated with the last flush.
+     *
+     * @return The number of LEDs
+     */
+    int getChangedLights ();
+
+
+    /**
+     * Get the number of bytes which were sent to the controller with the last flush.
+     *
+     * @return The number of bytes
+     */
+    int getSentBytes ();
 }
\ No newline at end of file
@@ -59,6 +59,29 @@ public interface IPadGrid extends ILightGuide
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorToken The token of a registered color ID of the color / brightness
+     */
+    void lightExToken (int x, int y, int colorToken);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorToken The token of a registered color ID of the color / brightness
+     * @param blinkColorToken The token of a registered color ID of the blinking color /
+     *            brightness, -1 for no blinking
+     * @param fast Blinking is fast if true
+     */
+    void lightExToken (int x, int y, int colorToken, int blinkColorToken, boolean fast);
+
+
     /**
      * Plug for grids not sending notes in the range of 36-100.
      *
@@ -7,6 +7,9 @@ package de.mossgrabers.framework.controller.grid;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 
 /**
  * Implementation of a grid of pads.
@@ -17,6 +20,8 @@ public class PadGridImpl implements IPadGrid
 {
     protected static final int   NUM_NOTES = 128;
 
+    private static final int     TOKEN_OFF = ColorManager.getColorToken (GRID_OFF);
+
     protected final IMidiOutput  output;
     protected final ColorManager colorManager;
 
@@ -27,6 +32,17 @@ public class PadGridImpl implements IPadGrid
     protected final int          startNote;
     protected final int          endNote;
 
+    // Channel (bits 8-11) and note (bits 0-7) on the controller for each note of the grid
+    private volatile int []      controllerTable;
+    private volatile int []      gridTable;
+
+    // The encoded states which were sent to the controller, the pending ones are in padStates
+    private final int []         committedStates = new int [NUM_NOTES];
+    private final BitSet         changedNotes    = new BitSet (NUM_NOTES);
+    private final int []         flushNotes      = new int [NUM_NOTES];
+    private int                  changedLights;
+    private int                  sentBytes;
+
 
     /**
      * Constructor.
@@ -63,6 +79,7 @@ public class PadGridImpl implements IPadGrid
         this.padStates = new LightInfo [NUM_NOTES];
         for (int i = 0; i < NUM_NOTES; i++)
             this.padStates[i] = new LightInfo ();
+        Arrays.fill (this.committedStates, -1);
     }
 
 
@@ -119,7 +136,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void light (final int note, final String colorID, final String blinkColorID, final boolean fast)
     {
-        this.light (note, this.colorManager.getColorIndex (colorID), blinkColorID == null ? -1 : this.colorManager.getColorIndex (blinkColorID), fast);
+        this.lightToken (note, ColorManager.getColorToken (colorID), blinkColorID == null ? -1 : ColorManager.getColorToken (blinkColorID), fast);
     }
 
 
@@ -127,7 +144,39 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void lightEx (final int x, final int y, final String colorID, final String blinkColorID, final boolean fast)
     {
-        this.lightEx (x, y, this.colorManager.getColorIndex (colorID), blinkColorID == null ? -1 : this.colorManager.getColorIndex (blinkColorID), fast);
+        this.lightExToken (x, y, ColorManager.getColorToken (colorID), blinkColorID == null ? -1 : ColorManager.getColorToken (blinkColorID), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightToken (final int note, final int colorToken)
+    {
+        this.lightToken (note, colorToken, -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightExToken (final int x, final int y, final int colorToken)
+    {
+        this.lightExToken (x, y, colorToken, -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightToken (final int note, final int colorToken, final int blinkColorToken, final boolean fast)
+    {
+        this.light (note, this.colorManager.getColorIndex (colorToken), blinkColorToken < 0 ? -1 : this.colorManager.getColorIndex (blinkColorToken), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightExToken (final int x, final int y, final int colorToken, final int blinkColorToken, final boolean fast)
+    {
+        this.lightEx (x, y, this.colorManager.getColorIndex (colorToken), blinkColorToken < 0 ? -1 : this.colorManager.getColorIndex (blinkColorToken), fast);
     }
 
 
@@ -141,7 +190,7 @@ public class PadGridImpl implements IPadGrid
      */
     protected void setLight (final int note, final int color, final int blinkColor, final boolean fast)
     {
-        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (GRID_OFF), fast);
+        this.padStates[note].setColors (color, blinkColor >= 0 ? blinkColor : this.colorManager.getColorIndex (TOKEN_OFF), fast);
     }
 
 
@@ -150,6 +199,10 @@ public class PadGridImpl implements IPadGrid
     public void forceFlush (final int note)
     {
         this.padStates[note].setColors (0, 0, false);
+        synchronized (this.committedStates)
+        {
+            this.committedStates[note] = -1;
+        }
     }
 
 
@@ -159,6 +212,18 @@ public class PadGridImpl implements IPadGrid
     {
         for (int i = this.startNote; i <= this.endNote; i++)
             this.padStates[i].setColors (0, 0, false);
+        this.clearCache ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearCache ()
+    {
+        synchronized (this.committedStates)
+        {
+            Arrays.fill (this.committedStates, -1);
+        }
     }
 
 
@@ -174,13 +239,79 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void sendState (final int note)
     {
-        final LightInfo state = this.padStates[note];
-        final int [] translated = this.translateToController (note);
-        final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
-        final int blinkColor = state.getBlinkColor ();
-        if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+        final int encoded = this.padStates[note].getEncoded ();
+        synchronized (this.committedStates)
+        {
+            this.changedNotes.set (note, this.committedStates[note] != encoded);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        synchronized (this.committedStates)
+        {
+            int count = 0;
+            for (int note = this.changedNotes.nextSetBit (0); note >= 0; note = this.changedNotes.nextSetBit (note + 1))
+            {
+                this.flushNotes[count++] = note;
+                this.committedStates[note] = this.padStates[note].getEncoded ();
+            }
+            this.changedNotes.clear ();
+
+            this.changedLights = count;
+            this.sentBytes = count == 0 ? 0 : this.sendStates (this.flushNotes, count);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getChangedLights ()
+    {
+        return this.changedLights;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSentBytes ()
+    {
+        return this.sentBytes;
+    }
+
+
+    /**
+     * Send the states of the pads which changed since the last flush. Overwrite to send all of them
+     * with one message.
+     *
+     * @param notes The notes of the changed pads
+     * @param count The number of changed pads
+     * @return The number of bytes which were sent
+     */
+    protected int sendStates (final int [] notes, final int count)
+    {
+        int bytes = 0;
+        for (int i = 0; i < count; i++)
+        {
+            final int note = notes[i];
+            final LightInfo state = this.padStates[note];
+            final int translated = this.lookupController (note);
+            final int channel = translated >> 8;
+            final int controllerNote = translated & 0xFF;
+            final int color = state.getColor ();
+            this.sendNoteState (channel, controllerNote, color < 0 ? 0 : color);
+            bytes += 3;
+            final int blinkColor = state.getBlinkColor ();
+            if (blinkColor > 0 && blinkColor < 128)
+            {
+                this.sendBlinkState (channel, controllerNote, blinkColor, state.isFast ());
+                bytes += 3;
+            }
+        }
+        return bytes;
     }
 
 
@@ -215,12 +346,13 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColorIndex (GRID_OFF);
+        final int color = this.colorManager.getColorIndex (TOKEN_OFF);
         for (int i = this.startNote; i <= this.endNote; i++)
         {
             this.light (i, color, -1, false);
             this.sendState (i);
         }
+        this.flush ();
     }
 
 
@@ -228,13 +360,71 @@ public class PadGridImpl implements IPadGrid
     @Override
     public int translateToGrid (final int note)
     {
-        return note;
+        if (note < 0 || note >= NUM_NOTES)
+            return this.mapToGrid (note);
+
+        int [] table = this.gridTable;
+        if (table == null)
+        {
+            table = new int [NUM_NOTES];
+            for (int i = 0; i < NUM_NOTES; i++)
+                table[i] = this.mapToGrid (i);
+            this.gridTable = table;
+        }
+        return table[note];
     }
 
 
     /** {@inheritDoc} */
     @Override
     public int [] translateToController (final int note)
+    {
+        final int translated = this.lookupController (note);
+        return new int []
+        {
+            translated >> 8,
+            translated & 0xFF
+        };
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int translateToControllerChannel (final int note)
+    {
+        return this.lookupController (note) >> 8;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int translateToControllerNote (final int note)
+    {
+        return this.lookupController (note) & 0xFF;
+    }
+
+
+    /**
+     * Plug for grids not sending notes in the range of 36-100. Overwrite to change the mapping. The
+     * result is cached in a table, call clearTranslationTables if the mapping changes.
+     *
+     * @param note The incoming note
+     * @return The note scaled to the range of 36-100
+     */
+    protected int mapToGrid (final int note)
+    {
+        return note;
+    }
+
+
+    /**
+     * Plug for grids not sending notes in the range of 36-100. Overwrite to change the mapping. The
+     * result is cached in a table, call clearTranslationTables if the mapping changes.
+     *
+     * @param note The outgoing note
+     * @return The midi channel (index 0) and note (index 1) scaled to the controller
+     */
+    protected int [] mapToController (final int note)
     {
         return new int []
         {
@@ -244,6 +434,46 @@ public class PadGridImpl implements IPadGrid
     }
 
 
+    /**
+     * Discards the cached translations, e.g. if the mapping of the controller changed.
+     */
+    protected void clearTranslationTables ()
+    {
+        this.controllerTable = null;
+        this.gridTable = null;
+    }
+
+
+    /**
+     * Get the translated channel and note of a note of the grid. Notes outside of the grid are not
+     * cached.
+     *
+     * @param note The outgoing note
+     * @return The channel (bits 8-11) and note (bits 0-7)
+     */
+    private int lookupController (final int note)
+    {
+        if (note < this.startNote || note > this.endNote)
+            return pack (this.mapToController (note));
+
+        int [] table = this.controllerTable;
+        if (table == null)
+        {
+            table = new int [this.endNote - this.startNote + 1];
+            for (int i = 0; i < table.length; i++)
+                table[i] = pack (this.mapToController (this.startNote + i));
+            this.controllerTable = table;
+        }
+        return table[note - this.startNote];
+    }
+
+
+    private static int pack (final int [] translated)
+    {
+        return translated[0] << 8 | translated[1] & 0xFF;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getRows ()
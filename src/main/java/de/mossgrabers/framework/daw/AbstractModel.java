@@ -32,6 +32,7 @@ public abstract class AbstractModel implements IModel
     protected final IValueChanger                   valueChanger;
     protected final ModelSetup                      modelSetup;
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers = new HashSet<> ();
+    protected final FlushScheduler                  flushScheduler;
 
     protected IApplication                          application;
     protected IMixer                                mixer;
@@ -68,6 +69,7 @@ public abstract class AbstractModel implements IModel
         this.colorManager = dataSetup.getColorManager ();
         this.valueChanger = dataSetup.getValueChanger ();
         this.scales = scales;
+        this.flushScheduler = new FlushScheduler (this.host, () -> this.transport.isPlaying ());
     }
 
 
@@ -79,6 +81,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public FlushScheduler getFlushScheduler ()
+    {
+        return this.flushScheduler;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IValueChanger getValueChanger ()
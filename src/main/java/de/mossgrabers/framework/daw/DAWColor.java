@@ -72,8 +72,11 @@ public enum DAWColor
     DAW_COLOR_LIGHT_BLUE("Light Blue", new ColorEx (0, 0.6000000238418579, 0.8509804010391235));
 
 
-    private String  name;
-    private ColorEx color;
+    private static final DAWColor [] VALUES         = DAWColor.values ();
+    private static final byte []     NEAREST_COLORS = new byte [1 << 16];
+
+    private String                   name;
+    private ColorEx                  color;
 
 
     /**
@@ -138,52 +141,65 @@ public enum DAWColor
 
 
     /**
-     * Get the color ID that is assigned to the given RGB values.
+     * Get the DAW color which is the closest to the given color.
      *
      * @param color The color
-     * @return The ID or the COLOR_OFF ID if none is mapped
+     * @return The DAW color
      */
-    public static String getColorIndex (final ColorEx color)
+    public static DAWColor getDAWColor (final ColorEx color)
     {
-        return getColorIndex (color.toDoubleRGB ());
+        return getDAWColor (color.getRed (), color.getGreen (), color.getBlue ());
     }
 
 
     /**
-     * Get the color ID that is assigned to the given RGB values.
+     * Get the DAW color which is the closest to the given RGB values. The RGB values are quantized
+     * to 5 bits for red and blue and 6 bits for green. The closest DAW color is looked up in a table
+     * which is filled when a quantized value is requested for the first time.
      *
-     * @param rgb The red, green and blue value
-     * @return The ID or the COLOR_OFF ID if none is mapped
+     * @param red The red value
+     * @param green The green value
+     * @param blue The blue value
+     * @return The DAW color
      */
-    public static String getColorIndex (final double [] rgb)
+    public static DAWColor getDAWColor (final double red, final double green, final double blue)
     {
-        return getColorIndex (rgb[0], rgb[1], rgb[2]);
+        final int index = quantize (red, 31) << 11 | quantize (green, 63) << 5 | quantize (blue, 31);
+        // Entries contain the ordinal + 1, 0 means not yet calculated
+        int entry = NEAREST_COLORS[index];
+        if (entry == 0)
+        {
+            entry = findClosest ((index >> 11) / 31.0, (index >> 5 & 0x3F) / 63.0, (index & 0x1F) / 31.0) + 1;
+            NEAREST_COLORS[index] = (byte) entry;
+        }
+        return VALUES[entry - 1];
     }
 
 
-    /**
-     * Get the color ID that is assigned to the closest given RGB values.
-     *
-     * @param red The red value
-     * @param green The green value
-     * @param blue The blue value
-     * @return The ID or the COLOR_OFF ID if none is mapped
-     */
-    public static String getColorIndex (final double red, final double green, final double blue)
+    private static int quantize (final double value, final int maximum)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
+        if (value <= 0)
+            return 0;
+        if (value >= 1)
+            return maximum;
+        return (int) Math.round (value * maximum);
+    }
+
+
+    private static int findClosest (final double red, final double green, final double blue)
+    {
+        int closest = 0;
         double minError = 5.0;
-        final ColorEx color = new ColorEx (red, green, blue);
-        for (int i = 1; i < values.length; i++)
+        for (int i = 1; i < VALUES.length; i++)
         {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color);
+            final ColorEx c = VALUES[i].getColor ();
+            final double error = ColorEx.calcDistance (c.getRed (), c.getGreen (), c.getBlue (), red, green, blue);
             if (error < minError)
             {
-                cid = values[i];
+                closest = i;
                 minError = error;
             }
         }
-        return cid.name ();
+        return closest;
     }
 }
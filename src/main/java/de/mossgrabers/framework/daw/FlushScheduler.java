@@ -0,0 +1,147 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+
+/**
+ * Since Bitwig 3.1 a flush only happens if the state of the DAW changes (which is intended and not
+ * a bug). But surfaces also need to be updated without such changes, e.g. to remove notifications.
+ * Therefore, additional flushes are requested. After some activity (any flush which was not
+ * requested by this scheduler, e.g. caused by user input or an observed value change) this happens
+ * with a short interval. If there was no activity for some time the interval is increased. Each
+ * registered surface can limit the interval. No flushes are requested while playback is active,
+ * since there are enough of them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushScheduler
+{
+    /** The interval in milliseconds for requesting flushes after some activity. */
+    public static final int         ACTIVE_INTERVAL  = 100;
+    /** The interval in milliseconds for requesting flushes if there was no activity. */
+    public static final int         IDLE_INTERVAL    = 1000;
+    /** The time in milliseconds after the last activity after which the idle interval is used. */
+    private static final int        ACTIVITY_TIMEOUT = 3000;
+
+    private final IHost             host;
+    private final BooleanSupplier   isPlaying;
+    private final List<IntSupplier> refreshIntervals = new ArrayList<> ();
+
+    private long                    lastActivity;
+    private long                    lastFlush;
+    private boolean                 isFlushRequested;
+    private int                     taskID;
+    private long                    nextTaskTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param isPlaying Returns true if playback is active
+     */
+    public FlushScheduler (final IHost host, final BooleanSupplier isPlaying)
+    {
+        this.host = host;
+        this.isPlaying = isPlaying;
+    }
+
+
+    /**
+     * Register a supplier for the maximum interval in which flushes need to happen, e.g. the
+     * refresh interval of a surface. Flushes are only requested if at least one supplier is
+     * registered.
+     *
+     * @param refreshInterval Supplies the interval in milliseconds, values of 0 or less mean that
+     *            there are no requirements
+     */
+    public void addRefreshInterval (final IntSupplier refreshInterval)
+    {
+        this.refreshIntervals.add (refreshInterval);
+        if (this.refreshIntervals.size () == 1)
+            this.schedule (ACTIVE_INTERVAL);
+    }
+
+
+    /**
+     * Must be called on each flush.
+     */
+    public void flushExecuted ()
+    {
+        final long now = System.currentTimeMillis ();
+        this.lastFlush = now;
+
+        if (this.isFlushRequested)
+        {
+            this.isFlushRequested = false;
+            return;
+        }
+
+        // Switch back to the active interval if waiting for an idle one
+        this.lastActivity = now;
+        if (this.nextTaskTime - now > ACTIVE_INTERVAL)
+            this.schedule (ACTIVE_INTERVAL);
+    }
+
+
+    /**
+     * Get the current interval.
+     *
+     * @param now The current time
+     * @return The interval in milliseconds
+     */
+    private int getInterval (final long now)
+    {
+        int interval = now - this.lastActivity < ACTIVITY_TIMEOUT ? ACTIVE_INTERVAL : IDLE_INTERVAL;
+        for (final IntSupplier refreshInterval: this.refreshIntervals)
+        {
+            final int value = refreshInterval.getAsInt ();
+            if (value > 0 && value < interval)
+                interval = value;
+        }
+        return interval;
+    }
+
+
+    private void schedule (final long delay)
+    {
+        if (this.refreshIntervals.isEmpty ())
+            return;
+
+        // Tasks which were scheduled earlier are ignored when executed
+        final int id = ++this.taskID;
+        this.nextTaskTime = System.currentTimeMillis () + delay;
+        this.host.scheduleTask ( () -> this.check (id), delay);
+    }
+
+
+    private void check (final int id)
+    {
+        if (id != this.taskID)
+            return;
+
+        final long now = System.currentTimeMillis ();
+        final int interval = this.getInterval (now);
+        final long timeSinceFlush = now - this.lastFlush;
+        if (timeSinceFlush < interval)
+        {
+            this.schedule (interval - timeSinceFlush);
+            return;
+        }
+
+        // There are enough flushs happening if playback is active
+        if (!this.isPlaying.getAsBoolean ())
+        {
+            this.isFlushRequested = true;
+            this.host.requestFlush ();
+        }
+        this.schedule (interval);
+    }
+}
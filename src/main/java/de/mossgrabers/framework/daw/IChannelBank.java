@@ -17,11 +17,11 @@ import de.mossgrabers.framework.daw.data.IChannel;
 public interface IChannelBank<T extends IChannel> extends IBank<T>
 {
     /**
-     * Get the color ID of the current track.
+     * Get the DAW color which is the closest to the color of the selected channel.
      *
-     * @return The color ID
+     * @return The DAW color, COLOR_OFF if no channel is selected
      */
-    String getSelectedChannelColorEntry ();
+    DAWColor getSelectedChannelColor ();
 
 
     /**
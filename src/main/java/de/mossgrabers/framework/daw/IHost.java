@@ -91,6 +91,12 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Requests that the DAW calls flush as soon as possible.
+     */
+    void requestFlush ();
+
+
     /**
      * Print the error to the console.
      *
@@ -139,9 +145,11 @@ public interface IHost
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxDatagramSize The maximum size of the UDP datagrams to send
+     * @param maxBytesPerSecond The maximum number of bytes to send per second, 0 for no limit
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxDatagramSize, int maxBytesPerSecond);
 
 
     /**
@@ -28,6 +28,14 @@ public interface IModel
     IHost getHost ();
 
 
+    /**
+     * Get the scheduler which requests additional flushes.
+     *
+     * @return The flush scheduler
+     */
+    FlushScheduler getFlushScheduler ();
+
+
     /**
      * Get the value changer.
      *
@@ -4,6 +4,12 @@
 
 package de.mossgrabers.framework.daw.data;
 
+import de.mossgrabers.framework.observer.ItemChangeObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
 /**
  * An item.
  *
@@ -11,8 +17,9 @@ package de.mossgrabers.framework.daw.data;
  */
 public abstract class AbstractItemImpl implements IItem
 {
-    protected final int index;
-    private boolean     selected;
+    protected final int                    index;
+    private boolean                        selected;
+    private final List<ItemChangeObserver> changeObservers = new ArrayList<> ();
 
 
     /**
@@ -54,7 +61,10 @@ public abstract class AbstractItemImpl implements IItem
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.notifyChangeObservers ();
     }
 
 
@@ -72,4 +82,35 @@ public abstract class AbstractItemImpl implements IItem
     {
         // Not supported
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ItemChangeObserver observer)
+    {
+        if (this.changeObservers.isEmpty ())
+            this.observeChanges ();
+        this.changeObservers.add (observer);
+    }
+
+
+    /**
+     * Register observers for all values of the item which call notifyChangeObservers. Called when
+     * the first change observer is added. The default implementation observes no values, the
+     * change observers are then only notified about changes of the selection state.
+     */
+    protected void observeChanges ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Notify all change observers.
+     */
+    protected void notifyChangeObservers ()
+    {
+        for (final ItemChangeObserver observer: this.changeObservers)
+            observer.call (this.index);
+    }
 }
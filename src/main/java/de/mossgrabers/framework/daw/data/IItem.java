@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ItemChangeObserver;
 import de.mossgrabers.framework.observer.ObserverManagement;
 
 
@@ -85,4 +86,15 @@ public interface IItem extends ObserverManagement
      * @param observer The observer to notify on a name change
      */
     void addNameObserver (final IValueObserver<String> observer);
+
+
+    /**
+     * Add an observer which is notified if any value of the item changes, e.g. its name or
+     * selection state. Values which change continuously like VU meters are not observed. Items which
+     * do not observe their values only notify changes of their selection state. Must be called
+     * during the initialisation of the extension.
+     *
+     * @param observer The observer to notify on a change
+     */
+    void addChangeObserver (ItemChangeObserver observer);
 }
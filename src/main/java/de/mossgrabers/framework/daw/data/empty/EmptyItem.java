@@ -6,6 +6,7 @@ package de.mossgrabers.framework.daw.data.empty;
 
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ItemChangeObserver;
 
 
 /**
@@ -87,6 +88,14 @@ public class EmptyItem implements IItem
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ItemChangeObserver observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
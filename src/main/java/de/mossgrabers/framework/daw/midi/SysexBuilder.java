@@ -0,0 +1,167 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages directly as bytes, which avoids formatting the data as a hex
+ * string which needs to be parsed again by the host. A builder starts with a fixed header and can
+ * be re-used for further messages after a message is finished. The internal buffer grows if
+ * necessary. A builder is not thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int DEFAULT_CAPACITY = 128;
+    private static final int SYSEX_END        = 0xF7;
+
+    private final byte []    header;
+    private byte []          buffer;
+    private int              position;
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the messages as a hex string (spaces are ignored), e.g. F0 00 20
+     *            29 02 10
+     */
+    public SysexBuilder (final String header)
+    {
+        this (header, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the messages as a hex string (spaces are ignored), e.g. F0 00 20
+     *            29 02 10
+     * @param capacity The initial capacity of the buffer
+     */
+    public SysexBuilder (final String header, final int capacity)
+    {
+        final int [] data = StringUtils.fromHexStr (header.replace (" ", ""));
+        this.header = new byte [data.length];
+        for (int i = 0; i < data.length; i++)
+            this.header[i] = (byte) data[i];
+
+        this.buffer = new byte [Math.max (capacity, this.header.length + 1)];
+        this.reset ();
+    }
+
+
+    /**
+     * Discards all data added after the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        System.arraycopy (this.header, 0, this.buffer, 0, this.header.length);
+        this.position = this.header.length;
+        return this;
+    }
+
+
+    /**
+     * Returns true if no data was added after the header.
+     *
+     * @return True if empty
+     */
+    public boolean isEmpty ()
+    {
+        return this.position == this.header.length;
+    }
+
+
+    /**
+     * Add a 7 bit value. Higher bits are removed.
+     *
+     * @param value The value to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder put7bit (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add 7 bit values. Higher bits are removed.
+     *
+     * @param values The values to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder put7bit (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of an ASCII text. Each character is added as one byte, higher bits are
+     * removed.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder putAscii (final String text)
+    {
+        return this.putAscii (text, 0, text.length ());
+    }
+
+
+    /**
+     * Add a range of the characters of an ASCII text. Each character is added as one byte, higher
+     * bits are removed.
+     *
+     * @param text The text to add
+     * @param start The index of the first character to add
+     * @param end The index after the last character to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder putAscii (final String text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+            this.buffer[this.position++] = (byte) (text.charAt (i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Adds the end of the system exclusive message and returns it. Afterwards, the builder is reset
+     * for the next message.
+     *
+     * @return The message
+     */
+    public byte [] finish ()
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) SYSEX_END;
+        final byte [] message = Arrays.copyOf (this.buffer, this.position);
+        this.reset ();
+        return message;
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.position + additional;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
@@ -39,4 +39,13 @@ public interface IBitmap
      * @param encoder The encoder to use
      */
     void encode (IEncoder encoder);
+
+
+    /**
+     * Get the number of times the bitmap has been rendered. Since the content can only change by
+     * rendering, an unchanged value means that the content is still the same.
+     *
+     * @return The render generation
+     */
+    long getGeneration ();
 }
@@ -207,4 +207,22 @@ public interface IGraphicsContext
      * @return The text height or -1 if the minimum height of 10 does not fit into the width
      */
     double calculateFontSize (String text, double maxHeight, double maxWidth, double minimumFontSize);
+
+
+    /**
+     * Restrict all following drawing operations to a rectangle until {@link #resetClip()} is
+     * called.
+     *
+     * @param left The left position of the clipping rectangle
+     * @param top The top position of the clipping rectangle
+     * @param width The width of the clipping rectangle
+     * @param height The height of the clipping rectangle
+     */
+    void setClip (double left, double top, double width, double height);
+
+
+    /**
+     * Removes the clipping rectangle set with {@link #setClip(double, double, double, double)}.
+     */
+    void resetClip ();
 }
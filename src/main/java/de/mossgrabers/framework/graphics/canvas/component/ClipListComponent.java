@@ -14,7 +14,7 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.utils.Pair;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -25,7 +25,18 @@ import java.util.List;
  */
 public class ClipListComponent implements IComponent
 {
-    private final List<Pair<ITrack, ISlot>> items;
+    private final String []  names;
+    private final ColorEx [] colors;
+    private final boolean [] isGroups;
+    private final boolean [] exists;
+    private final boolean [] hasContents;
+    private final boolean [] isPlayings;
+    private final boolean [] isRecordings;
+    private final boolean [] isPlayingQueueds;
+    private final boolean [] isRecordingQueueds;
+    private final boolean [] isRecArms;
+    private final boolean [] isSlotSelecteds;
+    private final boolean [] isTrackSelecteds;
 
 
     /**
@@ -35,7 +46,44 @@ public class ClipListComponent implements IComponent
      */
     public ClipListComponent (final List<Pair<ITrack, ISlot>> slots)
     {
-        this.items = new ArrayList<> (slots);
+        final int size = slots.size ();
+
+        this.names = new String [size];
+        this.colors = new ColorEx [size];
+        this.isGroups = new boolean [size];
+        this.exists = new boolean [size];
+        this.hasContents = new boolean [size];
+        this.isPlayings = new boolean [size];
+        this.isRecordings = new boolean [size];
+        this.isPlayingQueueds = new boolean [size];
+        this.isRecordingQueueds = new boolean [size];
+        this.isRecArms = new boolean [size];
+        this.isSlotSelecteds = new boolean [size];
+        this.isTrackSelecteds = new boolean [size];
+
+        // Copy the state of the slots since the track and slot objects are re-used by the banks
+        for (int i = 0; i < size; i++)
+        {
+            final Pair<ITrack, ISlot> pair = slots.get (i);
+            final ISlot slot = pair.getValue ();
+            final ITrack track = pair.getKey ();
+
+            this.isGroups[i] = track.isGroup ();
+            String name = slot.getName ();
+            if (this.isGroups[i] && name.isEmpty ())
+                name = "Scene " + (slot.getPosition () + 1);
+            this.names[i] = name;
+            this.colors[i] = slot.getColor ();
+            this.exists[i] = slot.doesExist ();
+            this.hasContents[i] = slot.hasContent ();
+            this.isPlayings[i] = slot.isPlaying ();
+            this.isRecordings[i] = slot.isRecording ();
+            this.isPlayingQueueds[i] = slot.isPlayingQueued ();
+            this.isRecordingQueueds[i] = slot.isRecordingQueued ();
+            this.isRecArms[i] = track.isRecArm ();
+            this.isSlotSelecteds[i] = slot.isSelected ();
+            this.isTrackSelecteds[i] = track.isSelected ();
+        }
     }
 
 
@@ -53,7 +101,7 @@ public class ClipListComponent implements IComponent
         final double separatorSize = dimensions.getSeparatorSize ();
         final double inset = dimensions.getInset ();
 
-        final int size = this.items.size ();
+        final int size = this.names.length;
         final double itemLeft = left + separatorSize;
         final double itemWidth = width - separatorSize;
         final double itemHeight = height / size;
@@ -67,69 +115,62 @@ public class ClipListComponent implements IComponent
 
         for (int i = 0; i < size; i++)
         {
-            final Pair<ITrack, ISlot> pair = this.items.get (i);
-            final ISlot slot = pair.getValue ();
-            final ITrack track = pair.getKey ();
-
             final double itemTop = i * itemHeight;
 
-            String name = slot.getName ();
-
             final double boxTop = itemTop + (itemHeight - fontHeight) / 2;
 
             // Draw the background
-            final ColorEx clipBackgroundColor = slot.getColor ();
-            if (track.isGroup ())
+            final ColorEx clipBackgroundColor = this.colors[i];
+            if (this.isGroups[i])
             {
-                if (name.isEmpty ())
-                    name = "Scene " + (slot.getPosition () + 1);
                 gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, ColorEx.darker (ColorEx.DARK_GRAY));
                 gc.fillRectangle (itemLeft + itemWidth - 2 * inset, itemTop + separatorSize, 2 * inset, itemHeight - 2 * separatorSize, clipBackgroundColor);
             }
             else
                 gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, clipBackgroundColor);
 
-            if (slot.doesExist ())
+            if (this.exists[i])
             {
                 // Draw the play/record state indicator box
-                final boolean isPlaying = slot.isPlaying ();
-                if (isPlaying || slot.isRecording () || slot.isPlayingQueued () || slot.isRecordingQueued ())
+                final boolean isPlaying = this.isPlayings[i];
+                final boolean isQueued = this.isPlayingQueueds[i] || this.isRecordingQueueds[i];
+                if (isPlaying || this.isRecordings[i] || isQueued)
                     gc.fillRectangle (boxLeft, boxTop, fontHeight, fontHeight, ColorEx.BLACK);
 
                 // Draw the play, record or stop symbol depending on the slots state
-                if (slot.hasContent ())
+                if (this.hasContents[i])
                 {
-                    if (slot.isRecording ())
+                    if (this.isRecordings[i])
                         gc.fillCircle (boxLeft + separatorSize + radius, boxTop + separatorSize + radius, radius, ColorEx.RED);
                     else
                     {
                         ColorEx fillColor = ColorEx.darker (clipBackgroundColor);
                         if (isPlaying)
                             fillColor = ColorEx.GREEN;
-                        else if (slot.isPlayingQueued () || slot.isRecordingQueued ())
+                        else if (isQueued)
                             fillColor = ColorEx.WHITE;
                         gc.fillTriangle (boxLeft + separatorSize, boxTop + separatorSize, boxLeft + separatorSize, boxTop + fontHeight - separatorSize, boxLeft + fontHeight - separatorSize, boxTop + fontHeight / 2, fillColor);
                     }
                 }
                 else
                 {
-                    if (track.isRecArm ())
+                    if (this.isRecArms[i])
                         gc.fillCircle (boxLeft + separatorSize + radius, boxTop + separatorSize + radius, radius, ColorEx.DARK_GRAY);
                     else
                         gc.fillRectangle (boxLeft + separatorSize, boxTop + separatorSize, boxWidth, boxWidth, ColorEx.DARK_GRAY);
                 }
 
                 // Draw the text
-                gc.drawTextInBounds (name, itemLeft + 2 * inset + fontHeight, itemTop - 1, itemWidth - 2 * inset, itemHeight, Align.LEFT, ColorEx.BLACK, fontHeight);
+                gc.drawTextInBounds (this.names[i], itemLeft + 2 * inset + fontHeight, itemTop - 1, itemWidth - 2 * inset, itemHeight, Align.LEFT, ColorEx.BLACK, fontHeight);
             }
 
             // Draw the border
             ColorEx color = borderColor;
-            if (slot.isSelected ())
+            if (this.isSlotSelecteds[i])
                 color = textColor;
-            else if (track.isSelected ())
+            else if (this.isTrackSelecteds[i])
                 color = ColorEx.darker (ColorEx.YELLOW);
-            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, slot.isSelected () ? 2 : 1);
+            gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, this.isSlotSelecteds[i] ? 2 : 1);
         }
     }
 
@@ -140,7 +181,18 @@ public class ClipListComponent implements IComponent
     {
         final int prime = 31;
         int result = 1;
-        result = prime * result + (this.items == null ? 0 : this.items.hashCode ());
+        result = prime * result + Arrays.hashCode (this.colors);
+        result = prime * result + Arrays.hashCode (this.exists);
+        result = prime * result + Arrays.hashCode (this.hasContents);
+        result = prime * result + Arrays.hashCode (this.isGroups);
+        result = prime * result + Arrays.hashCode (this.isPlayingQueueds);
+        result = prime * result + Arrays.hashCode (this.isPlayings);
+        result = prime * result + Arrays.hashCode (this.isRecArms);
+        result = prime * result + Arrays.hashCode (this.isRecordingQueueds);
+        result = prime * result + Arrays.hashCode (this.isRecordings);
+        result = prime * result + Arrays.hashCode (this.isSlotSelecteds);
+        result = prime * result + Arrays.hashCode (this.isTrackSelecteds);
+        result = prime * result + Arrays.hashCode (this.names);
         return result;
     }
 
@@ -156,13 +208,28 @@ public class ClipListComponent implements IComponent
         if (this.getClass () != obj.getClass ())
             return false;
         final ClipListComponent other = (ClipListComponent) obj;
-        if (this.items == null)
-        {
-            if (other.items != null)
-                return false;
-        }
-        else if (!this.items.equals (other.items))
+        if (!Arrays.equals (this.colors, other.colors))
+            return false;
+        if (!Arrays.equals (this.exists, other.exists))
+            return false;
+        if (!Arrays.equals (this.hasContents, other.hasContents))
+            return false;
+        if (!Arrays.equals (this.isGroups, other.isGroups))
+            return false;
+        if (!Arrays.equals (this.isPlayingQueueds, other.isPlayingQueueds))
+            return false;
+        if (!Arrays.equals (this.isPlayings, other.isPlayings))
+            return false;
+        if (!Arrays.equals (this.isRecArms, other.isRecArms))
+            return false;
+        if (!Arrays.equals (this.isRecordingQueueds, other.isRecordingQueueds))
+            return false;
+        if (!Arrays.equals (this.isRecordings, other.isRecordings))
+            return false;
+        if (!Arrays.equals (this.isSlotSelecteds, other.isSlotSelecteds))
+            return false;
+        if (!Arrays.equals (this.isTrackSelecteds, other.isTrackSelecteds))
             return false;
-        return true;
+        return Arrays.equals (this.names, other.names);
     }
 }
@@ -12,7 +12,7 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.utils.Pair;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -23,7 +23,8 @@ import java.util.List;
  */
 public class ListComponent implements IComponent
 {
-    private final List<Pair<String, Boolean>> items = new ArrayList<> (6);
+    private final String []  names;
+    private final boolean [] isSelecteds;
 
 
     /**
@@ -33,7 +34,17 @@ public class ListComponent implements IComponent
      */
     public ListComponent (final List<Pair<String, Boolean>> items)
     {
-        this.items.addAll (items);
+        final int size = items.size ();
+
+        this.names = new String [size];
+        this.isSelecteds = new boolean [size];
+
+        for (int i = 0; i < size; i++)
+        {
+            final Pair<String, Boolean> item = items.get (i);
+            this.names[i] = item.getKey ();
+            this.isSelecteds[i] = item.getValue ().booleanValue ();
+        }
     }
 
 
@@ -51,7 +62,7 @@ public class ListComponent implements IComponent
         final double separatorSize = dimensions.getSeparatorSize ();
         final double inset = dimensions.getInset ();
 
-        final int size = this.items.size ();
+        final int size = this.names.length;
         final double itemLeft = left + separatorSize;
         final double itemWidth = width - separatorSize;
         final double itemHeight = height / size;
@@ -61,11 +72,10 @@ public class ListComponent implements IComponent
 
         for (int i = 0; i < size; i++)
         {
-            final Pair<String, Boolean> item = this.items.get (i);
-            final boolean isSelected = item.getValue ().booleanValue ();
+            final boolean isSelected = this.isSelecteds[i];
             final double itemTop = i * itemHeight;
             gc.fillRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, isSelected ? textColor : borderColor);
-            gc.drawTextInBounds (item.getKey (), itemLeft + inset, itemTop, itemWidth - 2 * inset, itemHeight, Align.LEFT, isSelected ? borderColor : textColor, itemHeight / 2);
+            gc.drawTextInBounds (this.names[i], itemLeft + inset, itemTop, itemWidth - 2 * inset, itemHeight, Align.LEFT, isSelected ? borderColor : textColor, itemHeight / 2);
         }
     }
 
@@ -75,8 +85,10 @@ public class ListComponent implements IComponent
     public int hashCode ()
     {
         final int prime = 31;
-        final int result = 1;
-        return prime * result + this.items.hashCode ();
+        int result = 1;
+        result = prime * result + Arrays.hashCode (this.isSelecteds);
+        result = prime * result + Arrays.hashCode (this.names);
+        return result;
     }
 
 
@@ -91,6 +103,8 @@ public class ListComponent implements IComponent
         if (this.getClass () != obj.getClass ())
             return false;
         final ListComponent other = (ListComponent) obj;
-        return this.items.equals (other.items);
+        if (!Arrays.equals (this.isSelecteds, other.isSelecteds))
+            return false;
+        return Arrays.equals (this.names, other.names);
     }
 }
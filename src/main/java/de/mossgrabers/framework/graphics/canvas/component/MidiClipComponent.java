@@ -12,6 +12,8 @@ import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
  * A component which displays the notes of a midi clip.
@@ -25,8 +27,23 @@ public class MidiClipComponent implements IComponent
     private static final ColorEx LOOP_BACKGROUND   = ColorEx.fromRGB (84, 84, 84);
     private static final ColorEx HEADER_BACKGROUND = ColorEx.fromRGB (140, 140, 140);
 
-    private final INoteClip      clip;
-    private int                  quartersPerMeasure;
+    private final int            quartersPerMeasure;
+    private final int            numSteps;
+    private final double         stepLength;
+    private final int            editPage;
+    private final boolean        isLoopEnabled;
+    private final double         loopStart;
+    private final double         loopLength;
+    private final double         playStart;
+    private final double         playEnd;
+    private final ColorEx        color;
+    private final int            currentStep;
+    private final int            lowerRowWithData;
+    private final int            upperRowWithData;
+
+    /** The set steps ordered by row, step and channel, see addStep for the encoding. */
+    private int []               steps             = new int [16];
+    private int                  numSetSteps;
 
 
     /**
@@ -37,8 +54,39 @@ public class MidiClipComponent implements IComponent
      */
     public MidiClipComponent (final INoteClip clip, final int quartersPerMeasure)
     {
-        this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+
+        // Copy the state of the clip since the clip object is re-used
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.color = clip.getColor ();
+        this.currentStep = clip.getCurrentStep ();
+        this.lowerRowWithData = clip.getLowerRowWithData ();
+        this.upperRowWithData = this.lowerRowWithData == -1 ? -1 : clip.getUpperRowWithData ();
+
+        if (this.lowerRowWithData == -1)
+            return;
+
+        final int range = 1 + this.upperRowWithData - this.lowerRowWithData;
+        for (int row = 0; row < range; row++)
+        {
+            final int note = this.lowerRowWithData + row;
+            for (int step = 0; step < this.numSteps; step++)
+            {
+                for (int channel = 0; channel < 16; channel++)
+                {
+                    final int stepState = clip.getStep (channel, step, note).getState ();
+                    if (stepState != 0)
+                        this.addStep (row, step, channel, stepState == 2);
+                }
+            }
+        }
     }
 
 
@@ -58,22 +106,17 @@ public class MidiClipComponent implements IComponent
         gc.fillRectangle (left, top, width, noteAreaHeight, HEADER_BACKGROUND);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
-        final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
-        final double startPos = editPage * pageLength;
-        final double endPos = (editPage + 1) * pageLength;
+        final double pageLength = this.numSteps * this.stepLength;
+        final double startPos = this.editPage * pageLength;
+        final double endPos = (this.editPage + 1) * pageLength;
         final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
             // ... the loop is visible in the current page
-            if (loopStart < endPos && loopStart + loopLength > startPos)
+            if (this.loopStart < endPos && this.loopStart + this.loopLength > startPos)
             {
-                final double start = Math.max (0, loopStart - startPos);
-                final double end = Math.min (endPos, loopStart + loopLength) - startPos;
+                final double start = Math.max (0, this.loopStart - startPos);
+                final double end = Math.min (endPos, this.loopStart + this.loopLength) - startPos;
                 final double x = width * start / pageLength;
                 final double w = width * end / pageLength - x;
                 // The header loop
@@ -84,27 +127,25 @@ public class MidiClipComponent implements IComponent
             }
         }
         // Draw play start in header
-        final double playStart = this.clip.getPlayStart ();
-        final ColorEx noteColor = this.clip.getColor ();
+        final ColorEx noteColor = this.color;
         final ColorEx lineColor = noteColor;
-        if (playStart >= startPos && playStart <= endPos)
+        if (this.playStart >= startPos && this.playStart <= endPos)
         {
-            final double start = playStart - startPos;
+            final double start = this.playStart - startPos;
             final double x = width * start / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, lineColor);
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
-        if (playEnd >= startPos && playEnd <= endPos)
+        if (this.playEnd >= startPos && this.playEnd <= endPos)
         {
-            final double end = playEnd - startPos;
+            final double end = this.playEnd - startPos;
             final double x = width * end / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, lineColor);
         }
 
         // Draw dividers
-        final double stepWidth = width / numSteps;
-        for (int step = 0; step <= numSteps; step++)
+        final double stepWidth = width / this.numSteps;
+        for (int step = 0; step <= this.numSteps; step++)
         {
             final double x = left + step * stepWidth;
             gc.fillRectangle (x, top, 1, noteAreaHeight, DIVIDERS_COLOR);
@@ -112,62 +153,145 @@ public class MidiClipComponent implements IComponent
             // Draw measure texts
             if (step % 4 == 0)
             {
-                final double time = startPos + step * stepLength;
+                final double time = startPos + step * this.stepLength;
                 final String measureText = StringUtils.formatMeasures (this.quartersPerMeasure, time, 1, false);
                 gc.drawTextInHeight (measureText, x, 0, top - 1.0, ColorEx.WHITE, top);
             }
         }
 
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowerRowWithData ();
-        if (lowerRowWithData == -1)
+        if (this.lowerRowWithData == -1)
             return;
-        final int upperRowWithData = this.clip.getUpperRowWithData ();
-        final int range = 1 + upperRowWithData - lowerRowWithData;
+        final int range = 1 + this.upperRowWithData - this.lowerRowWithData;
         final double stepHeight = noteAreaHeight / range;
 
         final double fontSize = gc.calculateFontSize ("G#5", stepHeight, stepWidth, 12.0);
 
+        int index = 0;
         for (int row = 0; row < range; row++)
         {
             gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, DIVIDERS_COLOR);
 
-            for (int step = 0; step < numSteps; step++)
+            final int note = this.lowerRowWithData + row;
+
+            for (; index < this.numSetSteps && getRow (this.steps[index]) == row; index++)
             {
-                final int note = lowerRowWithData + row;
+                final int encodedStep = this.steps[index];
+                final int step = getStepIndex (encodedStep);
+                final int channel = getChannel (encodedStep);
 
-                // Get step, check for length
-                for (int channel = 0; channel < 16; channel++)
+                double x = left + step * stepWidth - 1;
+                double w = stepWidth + 2;
+                final boolean isStart = isStart (encodedStep);
+                if (isStart)
                 {
-                    final int stepState = this.clip.getStep (channel, step, note).getState ();
-                    if (stepState == 0)
-                        continue;
-
-                    double x = left + step * stepWidth - 1;
-                    double w = stepWidth + 2;
-                    final boolean isStart = stepState == 2;
-                    if (isStart)
-                    {
-                        x += 2;
-                        w -= 2;
-                    }
-
-                    gc.strokeRectangle (x, top + (range - row - 1) * stepHeight + 2, w, stepHeight - 2, ColorEx.BLACK);
-                    gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, noteColor);
-
-                    if (isStart && fontSize > 0)
-                    {
-                        final String text = channel + 1 + ": " + Scales.formatDrumNote (note);
-                        final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
-                        gc.drawTextInBounds (text, x, top + (range - row - 1) * stepHeight + 2, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
-                    }
+                    x += 2;
+                    w -= 2;
+                }
+
+                gc.strokeRectangle (x, top + (range - row - 1) * stepHeight + 2, w, stepHeight - 2, ColorEx.BLACK);
+                gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, noteColor);
+
+                if (isStart && fontSize > 0)
+                {
+                    final String text = channel + 1 + ": " + Scales.formatDrumNote (note);
+                    final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
+                    gc.drawTextInBounds (text, x, top + (range - row - 1) * stepHeight + 2, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
                 }
             }
         }
 
         // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
-        if (playStep >= 0)
-            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
+        if (this.currentStep >= 0)
+            gc.fillRectangle (left + this.currentStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + (this.color == null ? 0 : this.color.hashCode ());
+        result = prime * result + this.currentStep;
+        result = prime * result + this.editPage;
+        result = prime * result + (this.isLoopEnabled ? 1231 : 1237);
+        result = prime * result + Double.hashCode (this.loopLength);
+        result = prime * result + Double.hashCode (this.loopStart);
+        result = prime * result + this.lowerRowWithData;
+        result = prime * result + this.numSteps;
+        result = prime * result + Double.hashCode (this.playEnd);
+        result = prime * result + Double.hashCode (this.playStart);
+        result = prime * result + this.quartersPerMeasure;
+        result = prime * result + Double.hashCode (this.stepLength);
+        result = prime * result + this.upperRowWithData;
+        for (int i = 0; i < this.numSetSteps; i++)
+            result = prime * result + this.steps[i];
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (this.getClass () != obj.getClass ())
+            return false;
+        final MidiClipComponent other = (MidiClipComponent) obj;
+        if (this.color == null)
+        {
+            if (other.color != null)
+                return false;
+        }
+        else if (!this.color.equals (other.color))
+            return false;
+        if (this.currentStep != other.currentStep || this.editPage != other.editPage || this.isLoopEnabled != other.isLoopEnabled)
+            return false;
+        if (Double.doubleToLongBits (this.loopLength) != Double.doubleToLongBits (other.loopLength) || Double.doubleToLongBits (this.loopStart) != Double.doubleToLongBits (other.loopStart))
+            return false;
+        if (Double.doubleToLongBits (this.playEnd) != Double.doubleToLongBits (other.playEnd) || Double.doubleToLongBits (this.playStart) != Double.doubleToLongBits (other.playStart))
+            return false;
+        if (this.lowerRowWithData != other.lowerRowWithData || this.upperRowWithData != other.upperRowWithData || this.numSteps != other.numSteps)
+            return false;
+        if (this.quartersPerMeasure != other.quartersPerMeasure || Double.doubleToLongBits (this.stepLength) != Double.doubleToLongBits (other.stepLength))
+            return false;
+        return Arrays.equals (this.steps, 0, this.numSetSteps, other.steps, 0, other.numSetSteps);
+    }
+
+
+    private void addStep (final int row, final int step, final int channel, final boolean isStart)
+    {
+        if (this.numSetSteps == this.steps.length)
+            this.steps = Arrays.copyOf (this.steps, 2 * this.steps.length);
+        this.steps[this.numSetSteps++] = row << 24 | step << 5 | channel << 1 | (isStart ? 1 : 0);
+    }
+
+
+    private static int getRow (final int encodedStep)
+    {
+        return encodedStep >>> 24;
+    }
+
+
+    private static int getStepIndex (final int encodedStep)
+    {
+        return encodedStep >> 5 & 0x7FFFF;
+    }
+
+
+    private static int getChannel (final int encodedStep)
+    {
+        return encodedStep >> 1 & 0xF;
+    }
+
+
+    private static boolean isStart (final int encodedStep)
+    {
+        return (encodedStep & 1) > 0;
     }
 }
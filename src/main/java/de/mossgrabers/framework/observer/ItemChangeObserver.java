@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * Callback interface for observing changes of any value of an item.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface ItemChangeObserver
+{
+    /**
+     * The callback function.
+     *
+     * @param index The index of the item which has changed
+     */
+    void call (int index);
+}
@@ -11,9 +11,7 @@ import de.mossgrabers.framework.utils.StringUtils;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -23,14 +21,20 @@ import java.util.Map;
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    private static final long                      STATISTICS_INTERVAL = 1000;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final AddressTable                   addressTable        = new AddressTable ();
+
+    private final List<IOpenSoundControlMessage>   messages            = new ArrayList<> ();
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private long                                   lastStatisticsTime;
+    private long                                   lastSentBytes;
+    private long                                   lastSentDatagrams;
 
 
     /**
@@ -69,6 +73,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
             this.messages.clear ();
         }
+
+        this.logStatistics ();
     }
 
 
@@ -93,19 +99,34 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void fastSendOSC (final String address, final List<Object> parameters)
     {
-        this.sendOSC (address, parameters, true);
+        // The values are not cached, make sure that the next value is sent to the address
+        this.addressTable.clear (this.addressTable.getSlot (address));
+        this.addMessage (address, parameters);
         this.flush ();
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int registerAddress (final String address)
+    {
+        return this.addressTable.getSlot (address);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int registerAddresses (final String prefix, final AddressLayout layout)
+    {
+        return this.addressTable.register (prefix, layout);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.addressTable.getSlot (address), red, green, blue, dump);
     }
 
 
@@ -113,7 +134,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.addressTable.getSlot (address), value, dump);
     }
 
 
@@ -121,8 +142,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.addressTable.getSlot (address), value, dump);
     }
 
 
@@ -130,7 +150,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.addressTable.getSlot (address), value, dump);
     }
 
 
@@ -138,110 +158,115 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.addressTable.getSlot (address), value, dump);
     }
 
 
-    /**
-     * Send an OSC message with an object value. Tests if the value(s) of given message is identical
-     * to that of the cache. If this is not the case or if dump is true, the message is added to the
-     * messages list.The message will be sent when flush gets called.
-     *
-     * @param address The address of the OSC message
-     * @param value The value to send
-     * @param dump True to dump (ignore cache)
-     */
-    protected void sendOSC (final String address, final Object value, final boolean dump)
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int slot, final double red, final double green, final double blue, final boolean dump)
     {
-        this.sendOSC (address, address, value, value, dump);
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (this.addressTable.updateColor (slot, r, g, b) || dump)
+            this.addMessage (slot, "rgb(" + r + "," + g + "," + b + ")");
     }
 
 
-    /**
-     * Tests if the value(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
-     *
-     * @param cacheAddress The address under which to cache the message
-     * @param address The address of the OSC message
-     * @param testValue The value(s) to use for testing
-     * @param value The value(s) of the OSC message
-     * @param dump True to dump (ignore cache)
-     */
-    @SuppressWarnings("unchecked")
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final boolean value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
-        synchronized (this.messages)
-        {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
-        }
+        if (this.addressTable.update (slot, value) || dump)
+            this.addMessage (slot, Integer.valueOf (value ? 1 : 0));
     }
 
 
-    protected boolean isConnected ()
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final double value, final boolean dump)
     {
-        return this.oscClient != null;
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (this.addressTable.update (slot, floatValue) || dump)
+            this.addMessage (slot, Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final int value, final boolean dump)
+    {
+        if (this.addressTable.update (slot, value) || dump)
+            this.addMessage (slot, Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int slot, final String value, final boolean dump)
+    {
+        if (this.addressTable.update (slot, value) || dump)
+            this.addMessage (slot, StringUtils.fixASCII (value));
     }
 
 
     /**
-     * Convert the value to a list in case it is not already one. Also converts Boolean to Integer.
+     * Add a message with a single value to the messages list. The message will be sent when flush
+     * gets called.
      *
-     * @param value The value to convert
-     * @return The converted value
+     * @param slot The slot of the OSC address
+     * @param value The value of the message
      */
-    @SuppressWarnings("unchecked")
-    protected static List<Object> convertToList (final Object value)
+    private void addMessage (final int slot, final Object value)
     {
-        if (value instanceof List)
-            return List.class.cast (value);
-        if (value instanceof Boolean)
-            return Collections.singletonList (Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0));
-        return Collections.singletonList (value);
+        this.addMessage (this.addressTable.getAddress (slot), Collections.singletonList (value));
     }
 
 
     /**
-     * Compares two values. Additionally checks for list values.
+     * Add a message to the messages list. The message will be sent when flush gets called.
      *
-     * @param value1 The first value
-     * @param value2 The second value
-     * @return True if equal
+     * @param address The OSC address
+     * @param values The values of the message
      */
-    protected static boolean compareValues (final Object value1, final Object value2)
+    private void addMessage (final String address, final List<Object> values)
     {
-        if (value1 == null)
-            return value2 == null;
-
-        if (value1 instanceof List && value2 instanceof List)
+        synchronized (this.messages)
         {
-            final List<?> l1 = List.class.cast (value1);
-            final List<?> l2 = List.class.cast (value2);
-            final int size1 = l1.size ();
-            final int size2 = l2.size ();
-            if (size1 != size2)
-                return false;
-            for (int i = 0; i < size1; i++)
-            {
-                if (!l1.get (i).equals (l2.get (i)))
-                    return false;
-            }
-            return true;
+            this.messages.add (this.host.createOSCMessage (address, values));
         }
+    }
+
 
-        return value1.equals (value2);
+    protected boolean isConnected ()
+    {
+        return this.oscClient != null;
     }
 
 
-    private static Object convertBooleanToInt (final Object value)
+    /**
+     * Log the number of sent bytes and datagrams per second, if output logging is enabled.
+     */
+    private void logStatistics ()
     {
-        if (!(value instanceof Boolean))
-            return value;
-        return Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0);
+        if (!this.configuration.shouldLogOutputCommands ())
+            return;
+
+        final long now = System.currentTimeMillis ();
+        final long duration = now - this.lastStatisticsTime;
+        if (duration < STATISTICS_INTERVAL)
+            return;
+
+        final long sentBytes = this.oscClient.getSentBytes ();
+        final long sentDatagrams = this.oscClient.getSentDatagrams ();
+        if (this.lastStatisticsTime > 0)
+            this.host.println (String.format ("OSC client: %d bytes/s, %d datagrams/s, %d datagrams sent", Long.valueOf ((sentBytes - this.lastSentBytes) * 1000 / duration), Long.valueOf ((sentDatagrams - this.lastSentDatagrams) * 1000 / duration), Long.valueOf (sentDatagrams)));
+
+        this.lastStatisticsTime = now;
+        this.lastSentBytes = sentBytes;
+        this.lastSentDatagrams = sentDatagrams;
     }
 
 
@@ -0,0 +1,57 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The OSC addresses of the values of an object (e.g. a track) relative to the address of the object
+ * (e.g. /track/1/). The layout is registered for each object address and the slot of a value is the
+ * slot of the registered layout plus the index of the value in the layout.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AddressLayout
+{
+    private final List<String> addresses = new ArrayList<> ();
+
+
+    /**
+     * Add a relative address.
+     *
+     * @param address The address, e.g. volume
+     * @return The index of the address in the layout
+     */
+    public int add (final String address)
+    {
+        this.addresses.add (address);
+        return this.addresses.size () - 1;
+    }
+
+
+    /**
+     * Get the number of addresses.
+     *
+     * @return The number of addresses
+     */
+    public int getSize ()
+    {
+        return this.addresses.size ();
+    }
+
+
+    /**
+     * Get a relative address.
+     *
+     * @param index The index of the address
+     * @return The address
+     */
+    public String getAddress (final int index)
+    {
+        return this.addresses.get (index);
+    }
+}
@@ -0,0 +1,206 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A table of OSC addresses. Each address is registered once and identified by an integer slot
+ * afterwards. The last value sent to each slot is stored in a primitive array of its type, which
+ * allows to detect changes without creating objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AddressTable
+{
+    private static final byte          TYPE_NONE    = 0;
+    private static final byte          TYPE_INT     = 1;
+    private static final byte          TYPE_FLOAT   = 2;
+    private static final byte          TYPE_BOOLEAN = 3;
+    private static final byte          TYPE_STRING  = 4;
+    private static final byte          TYPE_COLOR   = 5;
+
+    private final List<String>         addresses    = new ArrayList<> ();
+    private final Map<String, Integer> slots        = new HashMap<> ();
+
+    private byte []                    types        = new byte [256];
+    private int []                     intValues    = new int [256];
+    private float []                   floatValues  = new float [256];
+    private boolean []                 boolValues   = new boolean [256];
+    private String []                  stringValues = new String [256];
+
+
+    /**
+     * Get the slot of an address. The address is registered if it is not yet known.
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    public int getSlot (final String address)
+    {
+        final Integer slot = this.slots.get (address);
+        if (slot != null)
+            return slot.intValue ();
+        return this.register (address);
+    }
+
+
+    /**
+     * Register the addresses of a layout for a prefix. The slots of the addresses are consecutive.
+     *
+     * @param prefix The prefix of all addresses, e.g. /track/1/
+     * @param layout The addresses relative to the prefix
+     * @return The slot of the first address of the layout, add the index of an address in the
+     *         layout to get its slot
+     */
+    public int register (final String prefix, final AddressLayout layout)
+    {
+        final int first = this.addresses.size ();
+        for (int i = 0; i < layout.getSize (); i++)
+            this.register (prefix + layout.getAddress (i));
+        return first;
+    }
+
+
+    /**
+     * Get the address of a slot.
+     *
+     * @param slot The slot
+     * @return The OSC address
+     */
+    public String getAddress (final int slot)
+    {
+        return this.addresses.get (slot);
+    }
+
+
+    /**
+     * Store an integer value if it differs from the last value of the slot.
+     *
+     * @param slot The slot
+     * @param value The value
+     * @return True if the value has changed
+     */
+    public boolean update (final int slot, final int value)
+    {
+        return this.updateInt (slot, TYPE_INT, value);
+    }
+
+
+    /**
+     * Store a float value if it differs from the last value of the slot.
+     *
+     * @param slot The slot
+     * @param value The value
+     * @return True if the value has changed
+     */
+    public boolean update (final int slot, final float value)
+    {
+        if (this.types[slot] == TYPE_FLOAT && Float.floatToIntBits (this.floatValues[slot]) == Float.floatToIntBits (value))
+            return false;
+        this.types[slot] = TYPE_FLOAT;
+        this.floatValues[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Store a boolean value if it differs from the last value of the slot.
+     *
+     * @param slot The slot
+     * @param value The value
+     * @return True if the value has changed
+     */
+    public boolean update (final int slot, final boolean value)
+    {
+        if (this.types[slot] == TYPE_BOOLEAN && this.boolValues[slot] == value)
+            return false;
+        this.types[slot] = TYPE_BOOLEAN;
+        this.boolValues[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Store a string value if it differs from the last value of the slot.
+     *
+     * @param slot The slot
+     * @param value The value, might be null
+     * @return True if the value has changed
+     */
+    public boolean update (final int slot, final String value)
+    {
+        if (this.types[slot] == TYPE_STRING)
+        {
+            final String oldValue = this.stringValues[slot];
+            if (oldValue == null ? value == null : oldValue.equals (value))
+                return false;
+        }
+        this.types[slot] = TYPE_STRING;
+        this.stringValues[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Store a color if it differs from the last color of the slot.
+     *
+     * @param slot The slot
+     * @param red The red component (0-255)
+     * @param green The green component (0-255)
+     * @param blue The blue component (0-255)
+     * @return True if the color has changed
+     */
+    public boolean updateColor (final int slot, final int red, final int green, final int blue)
+    {
+        return this.updateInt (slot, TYPE_COLOR, red << 16 | green << 8 | blue);
+    }
+
+
+    /**
+     * Forget the last value of a slot. The next value is always detected as a change.
+     *
+     * @param slot The slot
+     */
+    public void clear (final int slot)
+    {
+        this.types[slot] = TYPE_NONE;
+        this.stringValues[slot] = null;
+    }
+
+
+    private boolean updateInt (final int slot, final byte type, final int value)
+    {
+        if (this.types[slot] == type && this.intValues[slot] == value)
+            return false;
+        this.types[slot] = type;
+        this.intValues[slot] = value;
+        return true;
+    }
+
+
+    private int register (final String address)
+    {
+        final int slot = this.addresses.size ();
+        this.addresses.add (address);
+        this.slots.putIfAbsent (address, Integer.valueOf (slot));
+
+        if (slot == this.types.length)
+        {
+            final int capacity = 2 * slot;
+            this.types = Arrays.copyOf (this.types, capacity);
+            this.intValues = Arrays.copyOf (this.intValues, capacity);
+            this.floatValues = Arrays.copyOf (this.floatValues, capacity);
+            this.boolValues = Arrays.copyOf (this.boolValues, capacity);
+            this.stringValues = Arrays.copyOf (this.stringValues, capacity);
+        }
+        return slot;
+    }
+}
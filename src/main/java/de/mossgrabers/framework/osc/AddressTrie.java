@@ -0,0 +1,184 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * Routes OSC addresses to handlers. The address patterns are compiled into a trie of characters,
+ * which is walked once per address without splitting it. A path element of a pattern which is a
+ * single '#' matches a positive decimal number, e.g. the pattern /track/#/volume matches
+ * /track/3/volume. The numbers are parsed in place and returned in an integer array, in the order
+ * of their appearance. Literal path elements take precedence over numbers.
+ *
+ * @param <T> The type of the handlers
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AddressTrie<T>
+{
+    /** The path element of a pattern, which matches a number. */
+    public static final String NUMBER     = "#";
+
+    // Prevents an overflow of the parsed numbers
+    private static final int   MAX_DIGITS = 9;
+
+    private final Node         root       = new Node ();
+    private int                maxNumbers;
+
+
+    /**
+     * Add a handler for an address pattern. A handler of an identical pattern is replaced.
+     *
+     * @param pattern The address pattern, e.g. /track/#/volume
+     * @param handler The handler
+     */
+    public void add (final String pattern, final T handler)
+    {
+        Node node = this.root;
+        int numbers = 0;
+        int pos = 0;
+        while (pos < pattern.length ())
+        {
+            if (pos > 0 && pattern.startsWith (NUMBER, pos) && pattern.charAt (pos - 1) == '/' && (pos + 1 == pattern.length () || pattern.charAt (pos + 1) == '/'))
+            {
+                if (node.number == null)
+                    node.number = new Node ();
+                node = node.number;
+                numbers++;
+            }
+            else
+                node = node.getOrAddChild (pattern.charAt (pos));
+            pos++;
+        }
+        node.handler = handler;
+        this.maxNumbers = Math.max (this.maxNumbers, numbers);
+    }
+
+
+    /**
+     * Get the maximum number of numbers in a pattern. Use it as the size of the array for the
+     * numbers of the match method.
+     *
+     * @return The maximum number of numbers
+     */
+    public int getMaxNumbers ()
+    {
+        return this.maxNumbers;
+    }
+
+
+    /**
+     * Get the handler of an address.
+     *
+     * @param address The OSC address, e.g. /track/3/volume
+     * @param numbers Array to store the numbers of the address, which matched the number path
+     *            elements, must have at least the size of getMaxNumbers
+     * @return The handler or null if no pattern matches the address
+     */
+    public T match (final String address, final int [] numbers)
+    {
+        return this.match (this.root, address, 0, numbers, 0);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private T match (final Node start, final String address, final int startPos, final int [] numbers, final int numberIndex)
+    {
+        Node node = start;
+        int pos = startPos;
+        final int length = address.length ();
+        while (pos < length)
+        {
+            // Try the number if the literal path elements do not match
+            if (node.number != null)
+            {
+                final Node child = node.getChild (address.charAt (pos));
+                final T handler = child == null ? null : this.match (child, address, pos + 1, numbers, numberIndex);
+                return handler == null ? this.matchNumber (node.number, address, pos, numbers, numberIndex) : handler;
+            }
+
+            node = node.getChild (address.charAt (pos));
+            if (node == null)
+                return null;
+            pos++;
+        }
+        return (T) node.handler;
+    }
+
+
+    private T matchNumber (final Node node, final String address, final int startPos, final int [] numbers, final int numberIndex)
+    {
+        int value = 0;
+        int pos = startPos;
+        final int length = address.length ();
+        while (pos < length && address.charAt (pos) != '/')
+        {
+            final char c = address.charAt (pos);
+            if (c < '0' || c > '9' || pos - startPos == MAX_DIGITS)
+                return null;
+            value = 10 * value + c - '0';
+            pos++;
+        }
+        if (pos == startPos)
+            return null;
+        numbers[numberIndex] = value;
+        return this.match (node, address, pos, numbers, numberIndex + 1);
+    }
+
+
+    /**
+     * A node of the trie.
+     */
+    private static class Node
+    {
+        // The characters of the transitions, sorted for a binary search
+        private char [] labels   = new char [0];
+        private Node [] children = new Node [0];
+        private Node    number;
+        private Object  handler;
+
+
+        /**
+         * Get the node which follows on a character.
+         *
+         * @param c The character
+         * @return The node or null if there is no transition for the character
+         */
+        public Node getChild (final char c)
+        {
+            final int index = Arrays.binarySearch (this.labels, c);
+            return index >= 0 ? this.children[index] : null;
+        }
+
+
+        /**
+         * Get the node which follows on a character. The node is created if it does not exist.
+         *
+         * @param c The character
+         * @return The node
+         */
+        public Node getOrAddChild (final char c)
+        {
+            final int index = Arrays.binarySearch (this.labels, c);
+            if (index >= 0)
+                return this.children[index];
+
+            final int insert = -index - 1;
+            final int size = this.labels.length;
+            final char [] newLabels = Arrays.copyOf (this.labels, size + 1);
+            final Node [] newChildren = Arrays.copyOf (this.children, size + 1);
+            System.arraycopy (this.labels, insert, newLabels, insert + 1, size - insert);
+            System.arraycopy (this.children, insert, newChildren, insert + 1, size - insert);
+            final Node child = new Node ();
+            newLabels[insert] = c;
+            newChildren[insert] = child;
+            this.labels = newLabels;
+            this.children = newChildren;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.util.List;
+
+
+/**
+ * Interface for sending OSC messages in a single UDP datagram.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IDatagramSender
+{
+    /**
+     * Send messages in one datagram.
+     *
+     * @param messages The messages to send
+     * @param isBundle If true the messages are sent as an OSC bundle, otherwise the list contains
+     *            exactly one message which is sent as a plain message
+     * @throws IOException Could not send the datagram
+     */
+    void send (List<IOpenSoundControlMessage> messages, boolean isBundle) throws IOException;
+}
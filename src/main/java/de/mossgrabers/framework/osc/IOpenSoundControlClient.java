@@ -31,4 +31,26 @@ public interface IOpenSoundControlClient
      * @throws IOException Could not send the messages
      */
     void sendBundle (List<IOpenSoundControlMessage> messages) throws IOException;
+
+
+    /**
+     * Get the number of bytes sent so far.
+     *
+     * @return The number of bytes
+     */
+    long getSentBytes ();
+
+
+    /**
+     * Get the number of UDP datagrams sent so far.
+     *
+     * @return The number of datagrams
+     */
+    long getSentDatagrams ();
+
+
+    /**
+     * Send the remaining messages and release all resources.
+     */
+    void close ();
 }
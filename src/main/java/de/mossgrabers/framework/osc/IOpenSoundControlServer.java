@@ -21,4 +21,10 @@ public interface IOpenSoundControlServer
      * @throws IOException Could not start the server
      */
     void start (int port) throws IOException;
+
+
+    /**
+     * Stop the server and release all resources.
+     */
+    void close ();
 }
@@ -96,4 +96,88 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Register an OSC address for the slot based send methods. An address, which is already
+     * registered, keeps its slot.
+     *
+     * @param address The OSC address
+     * @return The slot of the address
+     */
+    int registerAddress (String address);
+
+
+    /**
+     * Register the addresses of a layout for the slot based send methods. The slots of the
+     * addresses are consecutive.
+     *
+     * @param prefix The prefix of all addresses, e.g. /track/1/
+     * @param layout The addresses relative to the prefix
+     * @return The slot of the first address, add the index of an address in the layout to get its
+     *         slot
+     */
+    int registerAddresses (String prefix, AddressLayout layout);
+
+
+    /**
+     * Send an OSC message with a color value to a registered address. Tests if the value is
+     * identical to the last value sent to the address. If this is not the case or if dump is true,
+     * the message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the registered OSC address
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int slot, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value to a registered address. Tests if the value is
+     * identical to the last value sent to the address. If this is not the case or if dump is true,
+     * the message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the registered OSC address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value to a registered address. Tests if the value is
+     * identical to the last value sent to the address. If this is not the case or if dump is true,
+     * the message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the registered OSC address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value to a registered address. Tests if the value is
+     * identical to the last value sent to the address. If this is not the case or if dump is true,
+     * the message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the registered OSC address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value to a registered address. Tests if the value is
+     * identical to the last value sent to the address. If this is not the case or if dump is true,
+     * the message is added to the messages list. The message will be sent when flush gets called.
+     *
+     * @param slot The slot of the registered OSC address
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, String value, boolean dump);
 }
@@ -0,0 +1,54 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+
+/**
+ * Registered addresses of numbered objects, e.g. /track/1/ to /track/8/. The addresses of an object
+ * are registered when they are needed the first time, since the number of objects is only known
+ * when a bank is flushed.
+ *
+ * @param <T> The type of the registered addresses, e.g. the slot of a layout
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NumberedAddresses<T>
+{
+    private final String              prefix;
+    private final Function<String, T> registration;
+    private final List<T>             items = new ArrayList<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param prefix The prefix of the addresses, the number of the object and a slash are appended,
+     *            e.g. /track/
+     * @param registration Registers the addresses for the address of an object
+     */
+    public NumberedAddresses (final String prefix, final Function<String, T> registration)
+    {
+        this.prefix = prefix;
+        this.registration = registration;
+    }
+
+
+    /**
+     * Get the registered addresses of an object.
+     *
+     * @param index The index of the object, the number in the address is the index + 1
+     * @return The registered addresses
+     */
+    public T get (final int index)
+    {
+        while (this.items.size () <= index)
+            this.items.add (this.registration.apply (this.prefix + (this.items.size () + 1) + "/"));
+        return this.items.get (index);
+    }
+}
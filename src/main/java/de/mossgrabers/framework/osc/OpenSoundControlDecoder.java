@@ -0,0 +1,74 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Decodes OSC packets (messages and bundles) as defined by the OSC 1.0 specification. The
+ * messages are not copied but handed to the callback as a view on the buffer, which is only valid
+ * during the callback. Time tags of bundles are ignored, all messages are handled immediately.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlDecoder
+{
+    private final OpenSoundControlMessageView view = new OpenSoundControlMessageView ();
+
+
+    /**
+     * Decode a packet and hand all contained messages to the callback.
+     *
+     * @param packet The packet from its position to its limit
+     * @param callback The callback to handle the messages
+     * @throws ProtocolException The packet is malformed, the messages before the error have been
+     *             handled
+     */
+    public void decode (final ByteBuffer packet, final IOpenSoundControlCallback callback) throws ProtocolException
+    {
+        this.decode (packet, packet.position (), packet.limit (), callback);
+    }
+
+
+    private void decode (final ByteBuffer packet, final int start, final int end, final IOpenSoundControlCallback callback) throws ProtocolException
+    {
+        if (!isBundle (packet, start, end))
+        {
+            this.view.reset (packet, start, end);
+            callback.handle (this.view);
+            return;
+        }
+
+        int position = start + OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
+        while (position < end)
+        {
+            if (position + 4 > end)
+                throw new ProtocolException ("Incomplete OSC bundle element size.");
+            final int size = packet.getInt (position);
+            position += 4;
+            if (size < 0 || (size & 3) != 0 || size > end - position)
+                throw new ProtocolException ("Illegal OSC bundle element size: " + size);
+            // Bundles can be nested
+            this.decode (packet, position, position + size, callback);
+            position += size;
+        }
+    }
+
+
+    private static boolean isBundle (final ByteBuffer packet, final int start, final int end)
+    {
+        final byte [] bundleID = OpenSoundControlEncoder.BUNDLE_ID;
+        if (end - start < OpenSoundControlEncoder.BUNDLE_HEADER_SIZE)
+            return false;
+        for (int i = 0; i < bundleID.length; i++)
+        {
+            if (packet.get (start + i) != bundleID[i])
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,302 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+
+/**
+ * Encodes OSC messages and bundles into their binary format as defined by the OSC 1.0
+ * specification and calculates their size.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlEncoder
+{
+    /** The size of the bundle header: the #bundle string and the time tag. */
+    public static final int      BUNDLE_HEADER_SIZE = 16;
+
+    /** The string which starts a bundle including its terminating zero. */
+    static final byte []         BUNDLE_ID          =
+    {
+        '#',
+        'b',
+        'u',
+        'n',
+        'd',
+        'l',
+        'e',
+        0
+    };
+
+    /** The time tag for executing a bundle immediately. */
+    private static final long    IMMEDIATELY        = 1;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private OpenSoundControlEncoder ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Encode messages as a bundle which is executed immediately.
+     *
+     * @param buffer The buffer to write to, starting at its position
+     * @param messages The messages
+     * @throws java.nio.BufferOverflowException The buffer is too small
+     */
+    public static void encodeBundle (final ByteBuffer buffer, final List<IOpenSoundControlMessage> messages)
+    {
+        buffer.put (BUNDLE_ID);
+        buffer.putLong (IMMEDIATELY);
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            // Write the size of the element after the message is encoded
+            final int sizePosition = buffer.position ();
+            buffer.putInt (0);
+            encodeMessage (buffer, message);
+            buffer.putInt (sizePosition, buffer.position () - sizePosition - 4);
+        }
+    }
+
+
+    /**
+     * Encode a message.
+     *
+     * @param buffer The buffer to write to, starting at its position
+     * @param message The message
+     * @throws java.nio.BufferOverflowException The buffer is too small
+     */
+    public static void encodeMessage (final ByteBuffer buffer, final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+
+        putString (buffer, message.getAddress ());
+
+        buffer.put ((byte) ',');
+        for (final Object value: values)
+            buffer.put ((byte) getTypeTag (value));
+        buffer.put ((byte) 0);
+        pad (buffer);
+
+        for (final Object value: values)
+            putValue (buffer, value);
+    }
+
+
+    /**
+     * Get the size of a message in a bundle, which is the size of the message plus its size
+     * prefix.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getBundleElementSize (final IOpenSoundControlMessage message)
+    {
+        return 4 + getMessageSize (message);
+    }
+
+
+    /**
+     * Get the size of an encoded message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getMessageSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // The type tag string starts with a comma and contains one character per value
+        int size = getStringSize (message.getAddress ()) + pad (values.length + 2);
+        for (final Object value: values)
+            size += getValueSize (value);
+        return size;
+    }
+
+
+    /**
+     * Get the type tag of a value.
+     *
+     * @param value The value
+     * @return The type tag
+     */
+    private static char getTypeTag (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof Integer)
+            return 'i';
+        if (value instanceof Float)
+            return 'f';
+        if (value instanceof Double)
+            return 'd';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof Boolean)
+            return ((Boolean) value).booleanValue () ? 'T' : 'F';
+        if (value instanceof byte [])
+            return 'b';
+        return 's';
+    }
+
+
+    /**
+     * Write the data of a value. Null and boolean values have no data.
+     *
+     * @param buffer The buffer to write to
+     * @param value The value
+     */
+    private static void putValue (final ByteBuffer buffer, final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return;
+
+        if (value instanceof Integer)
+            buffer.putInt (((Integer) value).intValue ());
+        else if (value instanceof Float)
+            buffer.putFloat (((Float) value).floatValue ());
+        else if (value instanceof Double)
+            buffer.putDouble (((Double) value).doubleValue ());
+        else if (value instanceof Long)
+            buffer.putLong (((Long) value).longValue ());
+        else if (value instanceof byte [])
+        {
+            final byte [] blob = (byte []) value;
+            buffer.putInt (blob.length);
+            buffer.put (blob);
+            pad (buffer);
+        }
+        else
+            putString (buffer, value.toString ());
+    }
+
+
+    /**
+     * Write a string as UTF-8 followed by a terminating zero and padding.
+     *
+     * @param buffer The buffer to write to
+     * @param text The text
+     */
+    private static void putString (final ByteBuffer buffer, final String text)
+    {
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                buffer.put ((byte) c);
+            else if (c < 0x800)
+            {
+                buffer.put ((byte) (0xC0 | c >> 6));
+                buffer.put ((byte) (0x80 | c & 0x3F));
+            }
+            else if (Character.isHighSurrogate (c) && i + 1 < length && Character.isLowSurrogate (text.charAt (i + 1)))
+            {
+                final int codePoint = Character.toCodePoint (c, text.charAt (++i));
+                buffer.put ((byte) (0xF0 | codePoint >> 18));
+                buffer.put ((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put ((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put ((byte) (0x80 | codePoint & 0x3F));
+            }
+            else if (Character.isSurrogate (c))
+            {
+                // Replace an unpaired surrogate
+                buffer.put ((byte) '?');
+            }
+            else
+            {
+                buffer.put ((byte) (0xE0 | c >> 12));
+                buffer.put ((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put ((byte) (0x80 | c & 0x3F));
+            }
+        }
+        buffer.put ((byte) 0);
+        pad (buffer);
+    }
+
+
+    /**
+     * Fill the buffer with zeros up to the next multiple of 4.
+     *
+     * @param buffer The buffer
+     */
+    private static void pad (final ByteBuffer buffer)
+    {
+        while ((buffer.position () & 3) != 0)
+            buffer.put ((byte) 0);
+    }
+
+
+    /**
+     * Get the size of an encoded value. Null and boolean values have no data.
+     *
+     * @param value The value
+     * @return The size in bytes
+     */
+    private static int getValueSize (final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Integer || value instanceof Float)
+            return 4;
+        if (value instanceof Double || value instanceof Long)
+            return 8;
+        if (value instanceof byte [])
+            return 4 + pad (((byte []) value).length);
+        return getStringSize (value.toString ());
+    }
+
+
+    /**
+     * Get the size of an encoded string: the UTF-8 bytes, a terminating zero and the padding to 4
+     * bytes. Must match putString.
+     *
+     * @param text The string
+     * @return The size in bytes
+     */
+    private static int getStringSize (final String text)
+    {
+        final int textLength = text.length ();
+        int length = 0;
+        for (int i = 0; i < textLength; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length += 1;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate (c) && i + 1 < textLength && Character.isLowSurrogate (text.charAt (i + 1)))
+            {
+                length += 4;
+                i++;
+            }
+            else if (Character.isSurrogate (c))
+            {
+                // An unpaired surrogate is replaced by a question mark
+                length += 1;
+            }
+            else
+                length += 3;
+        }
+        return pad (length + 1);
+    }
+
+
+    /**
+     * Round up a size to the next multiple of 4.
+     *
+     * @param size The size
+     * @return The padded size
+     */
+    private static int pad (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
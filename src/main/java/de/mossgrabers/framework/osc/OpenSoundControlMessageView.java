@@ -0,0 +1,270 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/**
+ * A view on an encoded OSC message in a buffer. The view is re-used for all received messages,
+ * therefore it is only valid until the next message is received. The address and the values are
+ * decoded when they are requested the first time.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlMessageView implements IOpenSoundControlMessage
+{
+    private static final Object [] NO_VALUES      = new Object [0];
+
+    private ByteBuffer             buffer;
+    private int                    addressStart;
+    private int                    addressEnd;
+    private int                    numValues;
+    private char []                valueTypes     = new char [16];
+    private int []                 valuePositions = new int [16];
+
+    private String                 address;
+    private Object []              values;
+    private byte []                stringBytes    = new byte [256];
+
+
+    /**
+     * Point the view to an encoded message and validate it.
+     *
+     * @param buffer The buffer which contains the message
+     * @param start The index of the first byte of the message
+     * @param end The index after the last byte of the message
+     * @throws ProtocolException The message is malformed
+     */
+    public void reset (final ByteBuffer buffer, final int start, final int end) throws ProtocolException
+    {
+        this.buffer = buffer;
+        this.address = null;
+        this.values = null;
+
+        if (start >= end || buffer.get (start) != '/')
+            throw new ProtocolException ("OSC address must start with a slash.");
+        this.addressStart = start;
+        this.addressEnd = findZero (buffer, start, end);
+
+        this.numValues = 0;
+        final int typeTagStart = pad (this.addressEnd + 1);
+        // Old implementations might not send a type tag string if there are no values
+        if (typeTagStart >= end)
+            return;
+        if (buffer.get (typeTagStart) != ',')
+            throw new ProtocolException ("OSC type tag string must start with a comma.");
+        final int typeTagEnd = findZero (buffer, typeTagStart, end);
+
+        // Store the type and position of all values and check that they are complete
+        int position = pad (typeTagEnd + 1);
+        for (int i = typeTagStart + 1; i < typeTagEnd; i++)
+        {
+            final char type = (char) buffer.get (i);
+            // Arrays are flattened
+            if (type == '[' || type == ']')
+                continue;
+            if (this.numValues == this.valueTypes.length)
+            {
+                this.valueTypes = Arrays.copyOf (this.valueTypes, 2 * this.numValues);
+                this.valuePositions = Arrays.copyOf (this.valuePositions, 2 * this.numValues);
+            }
+            this.valueTypes[this.numValues] = type;
+            this.valuePositions[this.numValues] = position;
+            this.numValues++;
+            position = this.skipValue (type, position, end);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        if (this.address == null)
+            this.address = this.decodeString (this.addressStart, this.addressEnd);
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        if (this.values != null)
+            return this.values;
+        if (this.numValues == 0)
+        {
+            this.values = NO_VALUES;
+            return this.values;
+        }
+
+        this.values = new Object [this.numValues];
+        for (int i = 0; i < this.numValues; i++)
+            this.values[i] = this.decodeValue (this.valueTypes[i], this.valuePositions[i]);
+        return this.values;
+    }
+
+
+    /**
+     * Decode a value.
+     *
+     * @param type The type tag of the value
+     * @param position The position of the data of the value
+     * @return The decoded value
+     */
+    private Object decodeValue (final char type, final int position)
+    {
+        switch (type)
+        {
+            case 'i':
+            case 'r':
+                return Integer.valueOf (this.buffer.getInt (position));
+            case 'c':
+                return Character.valueOf ((char) this.buffer.getInt (position));
+            case 'f':
+                return Float.valueOf (this.buffer.getFloat (position));
+            case 'h':
+            case 't':
+                return Long.valueOf (this.buffer.getLong (position));
+            case 'd':
+                return Double.valueOf (this.buffer.getDouble (position));
+            case 's':
+            case 'S':
+                return this.decodeString (position, findZeroUnchecked (this.buffer, position));
+            case 'b':
+                return this.getBytes (position + 4, this.buffer.getInt (position));
+            case 'm':
+                return this.getBytes (position, 4);
+            case 'T':
+                return Boolean.TRUE;
+            case 'F':
+                return Boolean.FALSE;
+            default:
+                // Nil and impulse
+                return null;
+        }
+    }
+
+
+    /**
+     * Get the position after a value.
+     *
+     * @param type The type tag of the value
+     * @param position The position of the data of the value
+     * @param end The index after the last byte of the message
+     * @return The position of the next value
+     * @throws ProtocolException The value is incomplete or has an unknown type
+     */
+    private int skipValue (final char type, final int position, final int end) throws ProtocolException
+    {
+        final int next;
+        switch (type)
+        {
+            case 'i':
+            case 'r':
+            case 'c':
+            case 'f':
+            case 'm':
+                next = position + 4;
+                break;
+            case 'h':
+            case 't':
+            case 'd':
+                next = position + 8;
+                break;
+            case 's':
+            case 'S':
+                next = pad (findZero (this.buffer, position, end) + 1);
+                break;
+            case 'b':
+                if (position + 4 > end)
+                    throw new ProtocolException ("Incomplete OSC blob.");
+                final int length = this.buffer.getInt (position);
+                if (length < 0)
+                    throw new ProtocolException ("Negative OSC blob size.");
+                // Check before padding, a huge size must not overflow
+                if (length > end - position - 4)
+                    throw new ProtocolException ("Incomplete OSC blob.");
+                next = pad (position + 4 + length);
+                break;
+            case 'T':
+            case 'F':
+            case 'N':
+            case 'I':
+                next = position;
+                break;
+            default:
+                throw new ProtocolException ("Unknown OSC type tag: " + type);
+        }
+        if (next > end)
+            throw new ProtocolException ("Incomplete OSC value of type: " + type);
+        return next;
+    }
+
+
+    private String decodeString (final int start, final int end)
+    {
+        final int length = end - start;
+        if (this.stringBytes.length < length)
+            this.stringBytes = new byte [Math.max (length, 2 * this.stringBytes.length)];
+        for (int i = 0; i < length; i++)
+            this.stringBytes[i] = this.buffer.get (start + i);
+        return new String (this.stringBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+
+    private byte [] getBytes (final int start, final int length)
+    {
+        final byte [] data = new byte [length];
+        for (int i = 0; i < length; i++)
+            data[i] = this.buffer.get (start + i);
+        return data;
+    }
+
+
+    /**
+     * Find the terminating zero of a string.
+     *
+     * @param buffer The buffer
+     * @param start The position of the first character
+     * @param end The index after the last byte of the message
+     * @return The position of the zero
+     * @throws ProtocolException The string is not terminated
+     */
+    private static int findZero (final ByteBuffer buffer, final int start, final int end) throws ProtocolException
+    {
+        for (int i = start; i < end; i++)
+        {
+            if (buffer.get (i) == 0)
+                return i;
+        }
+        throw new ProtocolException ("OSC string is not terminated.");
+    }
+
+
+    private static int findZeroUnchecked (final ByteBuffer buffer, final int start)
+    {
+        int i = start;
+        while (buffer.get (i) != 0)
+            i++;
+        return i;
+    }
+
+
+    /**
+     * Round up a position to the next multiple of 4.
+     *
+     * @param position The position, must not be negative
+     * @return The padded position, Integer.MAX_VALUE if it does not fit into an integer
+     */
+    private static int pad (final int position)
+    {
+        return (int) Math.min (position + 3L & ~3L, Integer.MAX_VALUE);
+    }
+}
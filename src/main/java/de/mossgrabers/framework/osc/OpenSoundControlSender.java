@@ -0,0 +1,338 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Sends OSC messages at a limited rate. Bundles are split into datagrams which do not exceed a
+ * maximum size. Since some clients cannot keep up with large bundles (e.g. a full dump of the DAW
+ * state) the datagrams are sent at a limited rate using a token bucket: each datagram consumes
+ * tokens equal to its size, the tokens refill with the maximum rate and short bursts are allowed.
+ * The thread which sends the messages is never blocked.
+ *
+ * The datagrams are either sent from a separate thread or from the thread of the host. In the
+ * latter case the messages must be queued from the thread of the host as well and the datagrams
+ * which exceed the rate are sent later from a scheduled task. This is required if the datagram
+ * sender uses the API of the host, which is not thread-safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSender
+{
+    private static final long     NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long     SHUTDOWN_TIMEOUT = 2000;
+    private static final long     MAX_REFILL_TIME  = 10 * NANOS_PER_SECOND;
+
+    private final IHost           host;
+    private final IDatagramSender datagramSender;
+    private final int             maxDatagramSize;
+    private final long            maxBytesPerSecond;
+    private final long            burstSize;
+    private final ExecutorService executor;
+
+    private final AtomicLong      sentBytes        = new AtomicLong ();
+    private final AtomicLong      sentDatagrams    = new AtomicLong ();
+    private final AtomicInteger   queuedDatagrams  = new AtomicInteger ();
+
+    // Only accessed by the sender thread, which is the host thread if there is no executor
+    private long                  tokens;
+    private long                  lastRefill       = System.nanoTime ();
+    private final Deque<Datagram> pending          = new ArrayDeque<> ();
+    private boolean               isSendScheduled;
+    private boolean               isShutdown;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for error reporting
+     * @param datagramSender Sends the datagrams
+     * @param maxDatagramSize The maximum size of a datagram in bytes, a single message which is
+     *            larger is sent in a datagram of its own
+     * @param maxBytesPerSecond The maximum number of bytes to send per second, 0 for no limit
+     * @param useSenderThread True to send the datagrams from a separate thread, false to send them
+     *            from the thread of the host
+     */
+    public OpenSoundControlSender (final IHost host, final IDatagramSender datagramSender, final int maxDatagramSize, final int maxBytesPerSecond, final boolean useSenderThread)
+    {
+        this.host = host;
+        this.executor = useSenderThread ? Executors.newSingleThreadExecutor (OpenSoundControlSender::createThread) : null;
+        this.datagramSender = datagramSender;
+        this.maxDatagramSize = maxDatagramSize;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+
+        // Allow bursts of 50ms
+        this.burstSize = Math.max (maxDatagramSize, maxBytesPerSecond / 20L);
+        this.tokens = this.burstSize;
+    }
+
+
+    /**
+     * Queue a message to be sent as a plain message.
+     *
+     * @param message The message
+     */
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.queue (Collections.singletonList (message), OpenSoundControlEncoder.getMessageSize (message), false);
+    }
+
+
+    /**
+     * Queue messages to be sent as bundles. The messages are split into as few datagrams as
+     * possible. Nothing is sent if the list is empty.
+     *
+     * @param messages The messages, the list is copied
+     */
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        List<IOpenSoundControlMessage> datagram = new ArrayList<> ();
+        int size = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            final int elementSize = OpenSoundControlEncoder.getBundleElementSize (message);
+            if (!datagram.isEmpty () && size + elementSize > this.maxDatagramSize)
+            {
+                this.queue (datagram, size, true);
+                datagram = new ArrayList<> ();
+                size = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
+            }
+            datagram.add (message);
+            size += elementSize;
+        }
+        if (!datagram.isEmpty ())
+            this.queue (datagram, size, true);
+    }
+
+
+    /**
+     * Get the number of bytes sent so far.
+     *
+     * @return The number of bytes
+     */
+    public long getSentBytes ()
+    {
+        return this.sentBytes.get ();
+    }
+
+
+    /**
+     * Get the number of datagrams sent so far.
+     *
+     * @return The number of datagrams
+     */
+    public long getSentDatagrams ()
+    {
+        return this.sentDatagrams.get ();
+    }
+
+
+    /**
+     * Get the number of datagrams which wait to be sent.
+     *
+     * @return The number of datagrams
+     */
+    public int getQueuedDatagrams ()
+    {
+        return this.queuedDatagrams.get ();
+    }
+
+
+    /**
+     * Send the remaining datagrams and stop the sender thread. If the datagrams are sent from the
+     * thread of the host, the remaining datagrams are sent immediately without a rate limit.
+     */
+    public void shutdown ()
+    {
+        if (this.executor == null)
+        {
+            this.isShutdown = true;
+            while (!this.pending.isEmpty ())
+                this.send (this.pending.remove ());
+            return;
+        }
+
+        this.executor.shutdown ();
+        try
+        {
+            if (!this.executor.awaitTermination (SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS))
+                this.host.error ("Could not send all OSC messages.");
+        }
+        catch (final InterruptedException ex)
+        {
+            this.host.error ("OSC sender shutdown interrupted.", ex);
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    private void queue (final List<IOpenSoundControlMessage> messages, final int size, final boolean isBundle)
+    {
+        final Datagram datagram = new Datagram (messages, size, isBundle);
+
+        if (this.executor == null)
+        {
+            if (this.isShutdown)
+                return;
+            this.queuedDatagrams.incrementAndGet ();
+            this.pending.add (datagram);
+            if (!this.isSendScheduled)
+                this.sendPending ();
+            return;
+        }
+
+        if (this.executor.isShutdown ())
+            return;
+        this.queuedDatagrams.incrementAndGet ();
+        this.executor.execute ( () -> {
+            try
+            {
+                this.acquireTokens (size);
+                this.send (datagram);
+            }
+            catch (final InterruptedException ex)
+            {
+                this.queuedDatagrams.decrementAndGet ();
+                Thread.currentThread ().interrupt ();
+            }
+        });
+    }
+
+
+    /**
+     * Send the pending datagrams from the thread of the host until the rate limit is reached. The
+     * remaining datagrams are sent from a scheduled task as soon as there are enough tokens.
+     */
+    private void sendPending ()
+    {
+        this.isSendScheduled = false;
+        while (!this.pending.isEmpty ())
+        {
+            if (this.maxBytesPerSecond > 0)
+            {
+                this.refillTokens ();
+                if (this.tokens < 0)
+                {
+                    final long waitMillis = (this.getWaitTime () + 999_999L) / 1_000_000L;
+                    this.isSendScheduled = true;
+                    this.host.scheduleTask (this::sendPending, Math.max (1, waitMillis));
+                    return;
+                }
+                this.tokens -= this.pending.peek ().size;
+            }
+            this.send (this.pending.remove ());
+        }
+    }
+
+
+    private void send (final Datagram datagram)
+    {
+        try
+        {
+            this.datagramSender.send (datagram.messages, datagram.isBundle);
+            this.sentBytes.addAndGet (datagram.size);
+            this.sentDatagrams.incrementAndGet ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not send UDP message.", ex);
+        }
+        finally
+        {
+            this.queuedDatagrams.decrementAndGet ();
+        }
+    }
+
+
+    /**
+     * Take tokens for sending a number of bytes from the bucket. If there are not enough tokens
+     * the sender thread waits until they are refilled.
+     *
+     * @param size The number of bytes to send
+     * @throws InterruptedException The thread was interrupted while waiting
+     */
+    private void acquireTokens (final int size) throws InterruptedException
+    {
+        if (this.maxBytesPerSecond <= 0)
+            return;
+
+        this.refillTokens ();
+        this.tokens -= size;
+        if (this.tokens < 0)
+            TimeUnit.NANOSECONDS.sleep (this.getWaitTime ());
+    }
+
+
+    /**
+     * Add the tokens which were refilled since the last call.
+     */
+    private void refillTokens ()
+    {
+        final long now = System.nanoTime ();
+        // Limit the elapsed time, the bucket is full anyway and the calculation must not overflow
+        final long elapsed = Math.min (now - this.lastRefill, MAX_REFILL_TIME);
+        this.tokens = Math.min (this.burstSize, this.tokens + elapsed * this.maxBytesPerSecond / NANOS_PER_SECOND);
+        this.lastRefill = now;
+    }
+
+
+    /**
+     * Get the time until the missing tokens are refilled.
+     *
+     * @return The time in nanoseconds, 0 if there are enough tokens
+     */
+    private long getWaitTime ()
+    {
+        return this.tokens < 0 ? -this.tokens * NANOS_PER_SECOND / this.maxBytesPerSecond : 0;
+    }
+
+
+    private static Thread createThread (final Runnable runnable)
+    {
+        final Thread thread = new Thread (runnable, "OpenSoundControlSender");
+        thread.setDaemon (true);
+        return thread;
+    }
+
+
+    /**
+     * The messages of a datagram.
+     */
+    private static class Datagram
+    {
+        private final List<IOpenSoundControlMessage> messages;
+        private final int                            size;
+        private final boolean                        isBundle;
+
+
+        /**
+         * Constructor.
+         *
+         * @param messages The messages
+         * @param size The encoded size of the datagram
+         * @param isBundle True to send the messages as a bundle
+         */
+        public Datagram (final List<IOpenSoundControlMessage> messages, final int size, final boolean isBundle)
+        {
+            this.messages = messages;
+            this.size = size;
+            this.isBundle = isBundle;
+        }
+    }
+}
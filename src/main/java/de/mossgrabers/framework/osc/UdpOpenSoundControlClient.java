@@ -0,0 +1,129 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+
+
+/**
+ * Sends OSC messages to an OSC server via UDP without using the OSC implementation of the DAW. The
+ * messages are encoded directly into a re-used buffer and sent from a separate thread with a
+ * limited rate.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class UdpOpenSoundControlClient implements IOpenSoundControlClient
+{
+    /** The maximum size of the payload of an UDP datagram. */
+    public static final int              MAX_DATAGRAM_SIZE = 65507;
+
+    private final IHost                  host;
+    private final InetSocketAddress      serverAddress;
+    private final DatagramChannel        channel;
+    private final OpenSoundControlSender sender;
+
+    // Only used by the sender thread
+    private final ByteBuffer             buffer            = ByteBuffer.allocateDirect (MAX_DATAGRAM_SIZE);
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for error reporting
+     * @param serverAddress The address of the server
+     * @param serverPort The port of the server
+     * @param maxDatagramSize The maximum size of the UDP datagrams to send
+     * @param maxBytesPerSecond The maximum number of bytes to send per second, 0 for no limit
+     * @throws IOException Could not open the UDP channel
+     */
+    public UdpOpenSoundControlClient (final IHost host, final String serverAddress, final int serverPort, final int maxDatagramSize, final int maxBytesPerSecond) throws IOException
+    {
+        this.host = host;
+        this.serverAddress = new InetSocketAddress (serverAddress, serverPort);
+        this.channel = DatagramChannel.open ();
+        this.sender = new OpenSoundControlSender (host, this::sendDatagram, Math.min (maxDatagramSize, MAX_DATAGRAM_SIZE), maxBytesPerSecond, true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.sender.sendMessage (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        this.sender.sendBundle (messages);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentBytes ()
+    {
+        return this.sender.getSentBytes ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getSentDatagrams ()
+    {
+        return this.sender.getSentDatagrams ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        this.sender.shutdown ();
+        try
+        {
+            this.channel.close ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close the OSC client.", ex);
+        }
+    }
+
+
+    /**
+     * Encode and send messages in one datagram. Called from the sender thread.
+     *
+     * @param messages The messages
+     * @param isBundle True to send the messages as a bundle
+     * @throws IOException Could not send the messages
+     */
+    private void sendDatagram (final List<IOpenSoundControlMessage> messages, final boolean isBundle) throws IOException
+    {
+        this.buffer.clear ();
+        try
+        {
+            if (isBundle)
+                OpenSoundControlEncoder.encodeBundle (this.buffer, messages);
+            else
+                OpenSoundControlEncoder.encodeMessage (this.buffer, messages.get (0));
+        }
+        catch (final BufferOverflowException ex)
+        {
+            throw new IOException ("OSC message is larger than an UDP datagram.", ex);
+        }
+        this.buffer.flip ();
+        this.channel.send (this.buffer, this.serverAddress);
+    }
+}
@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+
+/**
+ * Receives OSC messages via UDP without using the OSC implementation of the DAW. The UDP channel is
+ * polled with a scheduled task, so the messages are handled on the same thread as all other tasks
+ * of the extension. The datagrams are received into a re-used buffer and the messages are handed
+ * to the callback as views on that buffer, which are only valid during the callback.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class UdpOpenSoundControlServer implements IOpenSoundControlServer
+{
+    /** The interval in milliseconds in which the channel is polled. */
+    private static final int                POLL_INTERVAL          = 10;
+    /** The maximum number of datagrams handled by one poll, to not block the extension. */
+    private static final int                MAX_DATAGRAMS_PER_POLL = 256;
+
+    private final IHost                     host;
+    private final IOpenSoundControlCallback callback;
+    private final OpenSoundControlDecoder   decoder                = new OpenSoundControlDecoder ();
+    private final ByteBuffer                buffer                 = ByteBuffer.allocateDirect (65535);
+    private DatagramChannel                 channel;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling and error reporting
+     * @param callback The callback to handle the received messages
+     */
+    public UdpOpenSoundControlServer (final IHost host, final IOpenSoundControlCallback callback)
+    {
+        this.host = host;
+        this.callback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void start (final int port) throws IOException
+    {
+        this.close ();
+
+        final DatagramChannel newChannel = DatagramChannel.open ();
+        newChannel.configureBlocking (false);
+        newChannel.bind (new InetSocketAddress (port));
+        this.channel = newChannel;
+        this.host.scheduleTask ( () -> this.poll (newChannel), POLL_INTERVAL);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        if (this.channel == null)
+            return;
+        try
+        {
+            this.channel.close ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close the OSC server.", ex);
+        }
+        this.channel = null;
+    }
+
+
+    /**
+     * Receive and handle the waiting datagrams.
+     *
+     * @return The number of received datagrams
+     */
+    public int receive ()
+    {
+        if (this.channel == null)
+            return 0;
+
+        int count = 0;
+        try
+        {
+            while (count < MAX_DATAGRAMS_PER_POLL)
+            {
+                this.buffer.clear ();
+                if (this.channel.receive (this.buffer) == null)
+                    break;
+                this.buffer.flip ();
+                count++;
+                try
+                {
+                    this.decoder.decode (this.buffer, this.callback);
+                }
+                catch (final ProtocolException ex)
+                {
+                    this.host.error ("Received a malformed OSC message.", ex);
+                }
+                catch (final RuntimeException ex)
+                {
+                    // Do not stop receiving if a message could not be handled
+                    this.host.error ("Could not handle OSC message.", ex);
+                }
+            }
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not receive OSC message.", ex);
+        }
+        return count;
+    }
+
+
+    private void poll (final DatagramChannel pollChannel)
+    {
+        // Stop polling if the server was closed or restarted
+        if (pollChannel != this.channel)
+            return;
+        try
+        {
+            this.receive ();
+        }
+        finally
+        {
+            this.host.scheduleTask ( () -> this.poll (pollChannel), POLL_INTERVAL);
+        }
+    }
+}
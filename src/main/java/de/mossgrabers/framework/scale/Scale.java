@@ -4,10 +4,6 @@
 
 package de.mossgrabers.framework.scale;
 
-import java.util.HashSet;
-import java.util.Set;
-
-
 /**
  * Several scales and their intervals.
  *
@@ -133,7 +129,7 @@ public enum Scale
 
     private String                 name;
     private int []                 intervals;
-    private Set<Integer>           scaleKeys = new HashSet<> (7);
+    private int                    inScaleMask;
 
     private static final String [] SCALE_NAMES;
     static
@@ -156,8 +152,9 @@ public enum Scale
         this.name = name;
         this.intervals = intervals;
 
+        // Bit n is set if the note n (0-11) is part of the scale
         for (final int interval: this.intervals)
-            this.scaleKeys.add (Integer.valueOf (interval));
+            this.inScaleMask |= 1 << interval;
     }
 
 
@@ -191,7 +188,7 @@ public enum Scale
      */
     public boolean isInScale (final int note)
     {
-        return this.scaleKeys.contains (Integer.valueOf (note));
+        return note >= 0 && note < 12 && (this.inScaleMask >> note & 1) != 0;
     }
 
 
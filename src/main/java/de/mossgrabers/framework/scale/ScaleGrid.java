@@ -4,8 +4,13 @@
 
 package de.mossgrabers.framework.scale;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+
 /**
- * A scale applied to a grid.
+ * A scale applied to a grid. Grids are immutable and therefore shared by all surfaces. They are
+ * created on first use.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -21,9 +26,30 @@ public class ScaleGrid
     }
 
 
-    private final Scale  scale;
-    private final int [] matrix;
-    private final int [] chromatic;
+    private static final Map<Long, ScaleGrid> GRIDS = new ConcurrentHashMap<> ();
+
+    private final Scale                       scale;
+    private final int []                      matrix;
+    private final int []                      chromatic;
+
+
+    /**
+     * Get the grid for a scale. The grid is created on the first call with the same parameters.
+     *
+     * @param scale The sale from which to create a grid
+     * @param layout The layout to use
+     * @param orientation The orientation of the scale on the grid
+     * @param rows The number of rows of the grid (0-255)
+     * @param cols The number of columns of the grid (0-255)
+     * @param shift The number of scale steps that the notes in the next rows are shifted (e.g. 4,
+     *            0-255)
+     * @return The grid
+     */
+    public static ScaleGrid getGrid (final Scale scale, final ScaleLayout layout, final Orientation orientation, final int rows, final int cols, final int shift)
+    {
+        final long key = scale.ordinal () | (long) layout.ordinal () << 8 | (long) orientation.ordinal () << 16 | (long) rows << 24 | (long) cols << 32 | (long) shift << 40;
+        return GRIDS.computeIfAbsent (Long.valueOf (key), k -> new ScaleGrid (scale, layout, orientation, rows, cols, shift));
+    }
 
 
     /**
@@ -37,7 +63,7 @@ public class ScaleGrid
      * @param cols The number of columns of the grid
      * @param shift The number of scale steps that the notes in the next rows are shifted (e.g. 4)
      */
-    public ScaleGrid (final Scale scale, final ScaleLayout layout, final Orientation orientation, final int rows, final int cols, final int shift)
+    private ScaleGrid (final Scale scale, final ScaleLayout layout, final Orientation orientation, final int rows, final int cols, final int shift)
     {
         final int size = cols * rows;
         this.matrix = new int [size];
@@ -90,7 +116,7 @@ public class ScaleGrid
     /**
      * Get the matrix.
      *
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getMatrix ()
     {
@@ -101,7 +127,7 @@ public class ScaleGrid
     /**
      * Get the chromatic matrix.
      *
-     * @return The chromatic matrix.
+     * @return The chromatic matrix, must not be modified
      */
     public int [] getChromatic ()
     {
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.scale;
 
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
@@ -118,6 +119,15 @@ public class Scales
     /** Color index when the pad is a note which is not part of the scale. */
     public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
 
+    /** Color token of SCALE_COLOR_OFF. */
+    public static final int             TOKEN_OFF                = ColorManager.getColorToken (SCALE_COLOR_OFF);
+    /** Color token of SCALE_COLOR_OCTAVE. */
+    public static final int             TOKEN_OCTAVE             = ColorManager.getColorToken (SCALE_COLOR_OCTAVE);
+    /** Color token of SCALE_COLOR_NOTE. */
+    public static final int             TOKEN_NOTE               = ColorManager.getColorToken (SCALE_COLOR_NOTE);
+    /** Color token of SCALE_COLOR_OUT_OF_SCALE. */
+    public static final int             TOKEN_OUT_OF_SCALE       = ColorManager.getColorToken (SCALE_COLOR_OUT_OF_SCALE);
+
     /** Number of octaves which can be transposed up and down. */
     public static final int             OCTAVE_RANGE             = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
@@ -149,6 +159,11 @@ public class Scales
     private final Map<Scale, ScaleGrid> scaleGrids               = new EnumMap<> (Scale.class);
     private IValueChanger               valueChanger;
 
+    private final CachedMatrix          noteMatrix               = new CachedMatrix ();
+    private final CachedMatrix          sequencerMatrix          = new CachedMatrix ();
+    private final CachedMatrix          pianoMatrix              = new CachedMatrix ();
+    private final CachedMatrix          drumNoteMatrix           = new CachedMatrix ();
+
 
     /**
      * Constructor.
@@ -169,8 +184,6 @@ public class Scales
 
         this.drumOffset = this.drumNoteStart;
         this.drumDefaultOffset = DRUM_DEFAULT_OFFSET;
-
-        this.generateMatrices ();
     }
 
 
@@ -653,7 +666,7 @@ public class Scales
     public void setPlayShift (final int shift)
     {
         this.shift = shift;
-        this.generateMatrices ();
+        this.clearScaleGrids ();
     }
 
 
@@ -676,17 +689,30 @@ public class Scales
      * @return The color index
      */
     public String getColor (final int [] noteMap, final int note)
+    {
+        return ColorManager.getColorKey (this.getColorToken (noteMap, note));
+    }
+
+
+    /**
+     * Get the color token for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The color token, one of the TOKEN_* constants
+     */
+    public int getColorToken (final int [] noteMap, final int note)
     {
         final int midiNote = noteMap[note];
         if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return Scales.TOKEN_OFF;
         // Add 12 to prevent negative values
         final int n = (12 + midiNote - Scales.OFFSETS[this.scaleOffset]) % 12;
         if (n == 0)
-            return Scales.SCALE_COLOR_OCTAVE;
+            return Scales.TOKEN_OCTAVE;
         if (!this.isChromatic ())
-            return Scales.SCALE_COLOR_NOTE;
-        return this.isInScale (n) ? Scales.SCALE_COLOR_NOTE : Scales.SCALE_COLOR_OUT_OF_SCALE;
+            return Scales.TOKEN_NOTE;
+        return this.isInScale (n) ? Scales.TOKEN_NOTE : Scales.TOKEN_OUT_OF_SCALE;
     }
 
 
@@ -698,70 +724,79 @@ public class Scales
      */
     public boolean isInScale (final int note)
     {
-        for (final int interval: this.selectedScale.getIntervals ())
-        {
-            if (interval == note)
-                return true;
-        }
-        return false;
+        return this.selectedScale.isInScale (note);
     }
 
 
     /**
-     * Get the active note matrix.
+     * Get the active note matrix. The matrix is cached until the scale, layout, offset, octave or
+     * range of the grid changes.
      *
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getNoteMatrix ()
     {
         final int [] matrix = this.getActiveMatrix ();
+        final int transpose = Scales.OFFSETS[this.scaleOffset] + this.octave * 12;
+        if (this.noteMatrix.isValid (matrix, transpose, this.startNote, this.endNote))
+            return this.noteMatrix.get ();
+
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.startNote; note < this.endNote; note++)
         {
-            final int n = matrix[note - this.startNote] + Scales.OFFSETS[this.scaleOffset] + this.startNote + this.octave * 12;
+            final int n = matrix[note - this.startNote] + transpose + this.startNote;
             noteMap[note] = n < 0 || n > 127 ? -1 : n;
         }
-        return noteMap;
+        return this.noteMatrix.set (matrix, transpose, this.startNote, this.endNote, noteMap);
     }
 
 
     /**
-     * Get the active sequencer matrix.
+     * Get the active sequencer matrix. The matrix is cached until the scale, layout, offset or the
+     * parameters change.
      *
      * @param length The expected length
      * @param offset An offset to add to the notes
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getSequencerMatrix (final int length, final int offset)
     {
         final int [] matrix = this.getActiveMatrix ();
+        final int transpose = Scales.OFFSETS[this.scaleOffset] + offset;
+        if (this.sequencerMatrix.isValid (matrix, transpose, 0, length))
+            return this.sequencerMatrix.get ();
+
         final int [] noteMap = new int [length];
         Arrays.fill (noteMap, -1);
         for (int note = 0; note < length; note++)
         {
-            final int n = matrix[note] + Scales.OFFSETS[this.scaleOffset] + offset;
+            final int n = matrix[note] + transpose;
             noteMap[note] = n < 0 || n > 127 ? -1 : n;
         }
-        return noteMap;
+        return this.sequencerMatrix.set (matrix, transpose, 0, length, noteMap);
     }
 
 
     /**
-     * Get the piano matrix.
+     * Get the piano matrix. The matrix is cached until the octave or range of the grid changes.
      *
-     * @return The matrix
+     * @return The matrix, must not be modified
      */
     public int [] getPianoMatrix ()
     {
         final int [] matrix = PIANO_MATRIX;
+        final int transpose = this.pianoOctave * 12;
+        if (this.pianoMatrix.isValid (matrix, transpose, this.startNote, this.endNote))
+            return this.pianoMatrix.get ();
+
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.startNote; note < this.endNote; note++)
         {
             final int ns = matrix[note - this.startNote];
-            final int n = ns == -1 ? -1 : ns + this.startNote + this.pianoOctave * 12;
+            final int n = ns == -1 ? -1 : ns + this.startNote + transpose;
             noteMap[note] = n < 0 || n > 127 ? -1 : n;
         }
-        return noteMap;
+        return this.pianoMatrix.set (matrix, transpose, this.startNote, this.endNote, noteMap);
     }
 
 
@@ -793,12 +828,15 @@ public class Scales
 
 
     /**
-     * Get the drum matrix.
+     * Get the drum matrix. The matrix is cached until the drum offset or layout changes.
      *
-     * @return The drum matrix
+     * @return The drum matrix, must not be modified
      */
     public int [] getDrumMatrix ()
     {
+        if (this.drumNoteMatrix.isValid (this.drumMatrix, this.drumOffset, this.drumNoteStart, this.drumNoteEnd))
+            return this.drumNoteMatrix.get ();
+
         final int [] noteMap = Scales.getEmptyMatrix ();
         for (int note = this.drumNoteStart; note < this.drumNoteEnd; note++)
         {
@@ -806,7 +844,7 @@ public class Scales
             final int n = ns == -1 ? -1 : ns + this.drumOffset;
             noteMap[note] = n < 0 || n > 127 ? -1 : n;
         }
-        return noteMap;
+        return this.drumNoteMatrix.set (this.drumMatrix, this.drumOffset, this.drumNoteStart, this.drumNoteEnd, noteMap);
     }
 
 
@@ -939,7 +977,12 @@ public class Scales
      */
     public int [] getActiveMatrix ()
     {
-        final ScaleGrid scaleGrid = this.scaleGrids.get (this.selectedScale);
+        ScaleGrid scaleGrid = this.scaleGrids.get (this.selectedScale);
+        if (scaleGrid == null)
+        {
+            scaleGrid = ScaleGrid.getGrid (this.selectedScale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift);
+            this.scaleGrids.put (this.selectedScale, scaleGrid);
+        }
         return this.isChromatic () ? scaleGrid.getChromatic () : scaleGrid.getMatrix ();
     }
 
@@ -957,13 +1000,12 @@ public class Scales
 
 
     /**
-     * Generate all matrices for all scales.
+     * Remove the grids of the previous layout. The grids of the current layout are looked up when
+     * they are needed.
      */
-    private void generateMatrices ()
+    private void clearScaleGrids ()
     {
         this.scaleGrids.clear ();
-        for (final Scale scale: Scale.values ())
-            this.scaleGrids.put (scale, new ScaleGrid (scale, this.scaleLayout, this.orientation, this.numRows, this.numColumns, this.shift));
     }
 
 
@@ -1009,4 +1051,66 @@ public class Scales
     {
         this.endNote = endNote;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Caches a matrix calculated from a source matrix and some parameters. The matrix is valid as
+     * long as the source matrix instance and the parameters do not change. Since there is a scale
+     * grid for each scale and layout, this detects all changes of the scale settings.
+     */
+    private static class CachedMatrix
+    {
+        private Object source;
+        private int    transpose;
+        private int    start;
+        private int    end;
+        private int [] matrix;
+
+
+        /**
+         * Tests if the cached matrix was calculated from the given values.
+         *
+         * @param source The source matrix
+         * @param transpose The value which was added to the notes
+         * @param start The first note of the range
+         * @param end The note after the last note of the range
+         * @return True if the matrix can be re-used
+         */
+        public boolean isValid (final Object source, final int transpose, final int start, final int end)
+        {
+            return this.matrix != null && this.source == source && this.transpose == transpose && this.start == start && this.end == end;
+        }
+
+
+        /**
+         * Get the cached matrix.
+         *
+         * @return The matrix
+         */
+        public int [] get ()
+        {
+            return this.matrix;
+        }
+
+
+        /**
+         * Store a calculated matrix.
+         *
+         * @param source The source matrix
+         * @param transpose The value which was added to the notes
+         * @param start The first note of the range
+         * @param end The note after the last note of the range
+         * @param matrix The calculated matrix
+         * @return The matrix
+         */
+        public int [] set (final Object source, final int transpose, final int start, final int end, final int [] matrix)
+        {
+            this.source = source;
+            this.transpose = transpose;
+            this.start = start;
+            this.end = end;
+            this.matrix = matrix;
+            return matrix;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2020
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Counts durations in buckets with exponentially growing sizes. The upper limit of the first bucket
+ * is 0.25ms, each further limit is the double of the previous one. The last bucket contains all
+ * longer durations.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DurationHistogram
+{
+    /** The number of buckets. */
+    public static final int       NUM_BUCKETS      = 10;
+
+    private static final long     FIRST_LIMIT_NANO = 250_000L;
+
+    private final AtomicLongArray buckets          = new AtomicLongArray (NUM_BUCKETS);
+    private volatile long         maximum;
+
+
+    /**
+     * Add a duration.
+     *
+     * @param nanos The duration in nanoseconds
+     */
+    public void record (final long nanos)
+    {
+        this.buckets.incrementAndGet (getBucket (nanos));
+        if (nanos > this.maximum)
+            this.maximum = nanos;
+    }
+
+
+    /**
+     * Get the number of durations in a bucket.
+     *
+     * @param bucket The index of the bucket, 0 to NUM_BUCKETS - 1
+     * @return The number of durations
+     */
+    public long getCount (final int bucket)
+    {
+        return this.buckets.get (bucket);
+    }
+
+
+    /**
+     * Get the number of all recorded durations.
+     *
+     * @return The number of durations
+     */
+    public long getTotalCount ()
+    {
+        long count = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            count += this.buckets.get (i);
+        return count;
+    }
+
+
+    /**
+     * Get the upper limit of a bucket.
+     *
+     * @param bucket The index of the bucket, 0 to NUM_BUCKETS - 1
+     * @return The limit in milliseconds, the last bucket has no limit and returns
+     *         Double.POSITIVE_INFINITY
+     */
+    public static double getLimit (final int bucket)
+    {
+        if (bucket >= NUM_BUCKETS - 1)
+            return Double.POSITIVE_INFINITY;
+        return (FIRST_LIMIT_NANO << bucket) / 1_000_000.0;
+    }
+
+
+    /**
+     * Get the longest recorded duration.
+     *
+     * @return The duration in milliseconds
+     */
+    public double getMaximum ()
+    {
+        return this.maximum / 1_000_000.0;
+    }
+
+
+    /**
+     * Remove all recorded durations.
+     */
+    public void clear ()
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            this.buckets.set (i, 0);
+        this.maximum = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            if (i > 0)
+                sb.append (", ");
+            final double limit = getLimit (i);
+            sb.append (Double.isInfinite (limit) ? ">" + getLimit (i - 1) : "<" + limit).append ("ms: ").append (this.buckets.get (i));
+        }
+        return sb.append (", max: ").append (this.getMaximum ()).append ("ms").toString ();
+    }
+
+
+    private static int getBucket (final long nanos)
+    {
+        int bucket = 0;
+        long limit = FIRST_LIMIT_NANO;
+        while (bucket < NUM_BUCKETS - 1 && nanos >= limit)
+        {
+            bucket++;
+            limit <<= 1;
+        }
+        return bucket;
+    }
+}
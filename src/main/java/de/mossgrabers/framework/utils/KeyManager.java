@@ -22,11 +22,18 @@ import java.util.List;
  */
 public class KeyManager implements NoteObserver
 {
-    private final int []   pressedKeys = new int [128];
-    private final IModel   model;
-    private final Scales   scales;
-    private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private static final int NUM_NOTES   = 128;
+
+    // Bit 0-63 of the first value are the keys 0-63, the second value contains the keys 64-127
+    private final long []    pressedKeys = new long [2];
+    // The pads which are mapped to MIDI note n are stored in padsOfNote from index noteOffsets[n]
+    // to noteOffsets[n + 1] - 1
+    private final int []     noteOffsets = new int [NUM_NOTES + 1];
+    private final int []     padsOfNote  = new int [NUM_NOTES];
+    private final IModel     model;
+    private final Scales     scales;
+    private final IPadGrid   padGrid;
+    private int []           noteMap     = Scales.getEmptyMatrix ();
 
 
     /**
@@ -40,7 +47,6 @@ public class KeyManager implements NoteObserver
         this.model = model;
         this.scales = this.model.getScales ();
         this.padGrid = padGrid;
-        Arrays.fill (this.pressedKeys, 0);
     }
 
 
@@ -49,7 +55,8 @@ public class KeyManager implements NoteObserver
      */
     public void clearPressedKeys ()
     {
-        Arrays.fill (this.pressedKeys, 0);
+        this.pressedKeys[0] = 0;
+        this.pressedKeys[1] = 0;
     }
 
 
@@ -61,7 +68,7 @@ public class KeyManager implements NoteObserver
      */
     public boolean isKeyPressed (final int key)
     {
-        return this.pressedKeys[key] > 0;
+        return (this.pressedKeys[key >> 6] & 1L << key) != 0;
     }
 
 
@@ -69,27 +76,30 @@ public class KeyManager implements NoteObserver
      * Set a pressed key.
      *
      * @param key The key to set
-     * @param velocity The velocity
+     * @param velocity The velocity, 0 releases the key
      */
     public void setKeyPressed (final int key, final int velocity)
     {
-        this.pressedKeys[key] = velocity;
+        if (velocity > 0)
+            this.pressedKeys[key >> 6] |= 1L << key;
+        else
+            this.pressedKeys[key >> 6] &= ~(1L << key);
     }
 
 
     /**
-     * Loop over all pads since the note can be present multiple time.
+     * Set all pads which are mapped to the given note since the note can be present multiple
+     * times.
      *
      * @param key The key to set
-     * @param velocity The velocity
+     * @param velocity The velocity, 0 releases the key
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
-        }
+        if (key < 0 || key >= NUM_NOTES)
+            return;
+        for (int i = this.noteOffsets[key]; i < this.noteOffsets[key + 1]; i++)
+            this.setKeyPressed (this.padsOfNote[i], velocity);
     }
 
 
@@ -104,19 +114,36 @@ public class KeyManager implements NoteObserver
 
 
     /**
-     * Get the currently pressed keys.
+     * Get the currently pressed keys. Use nextPressedKey to iterate over the keys without creating
+     * a list.
      *
      * @return The list with the keys
      */
     public List<Integer> getPressedKeys ()
     {
         final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
+        for (int key = this.nextPressedKey (0); key >= 0; key = this.nextPressedKey (key + 1))
+            keys.add (Integer.valueOf (key));
+        return keys;
+    }
+
+
+    /**
+     * Get the next pressed key. Loop over all pressed keys with: for (int key = nextPressedKey (0);
+     * key >= 0; key = nextPressedKey (key + 1)).
+     *
+     * @param fromKey The key to start the search from (inclusive)
+     * @return The next pressed key or -1 if there is none
+     */
+    public int nextPressedKey (final int fromKey)
+    {
+        for (int i = fromKey >> 6; i >= 0 && i < this.pressedKeys.length; i++)
         {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
+            final long bits = i == fromKey >> 6 ? this.pressedKeys[i] & -1L << fromKey : this.pressedKeys[i];
+            if (bits != 0)
+                return i * 64 + Long.numberOfTrailingZeros (bits);
         }
-        return keys;
+        return -1;
     }
 
 
@@ -127,12 +154,7 @@ public class KeyManager implements NoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return (this.pressedKeys[0] | this.pressedKeys[1]) != 0;
     }
 
 
@@ -163,6 +185,18 @@ public class KeyManager implements NoteObserver
     }
 
 
+    /**
+     * Get the token of the color to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The midi note of the pad
+     * @return The color token
+     */
+    public int getColorToken (final int pad)
+    {
+        return this.scales.getColorToken (this.noteMap, pad);
+    }
+
+
     /**
      * Get the mapped note from the current note matrix.
      *
@@ -183,5 +217,25 @@ public class KeyManager implements NoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+
+        // Count the pads of each note and store the start of each range
+        Arrays.fill (this.noteOffsets, 0);
+        final int numPads = Math.min (matrix.length, NUM_NOTES);
+        for (int pad = 0; pad < numPads; pad++)
+        {
+            final int note = matrix[pad];
+            if (note >= 0 && note < NUM_NOTES)
+                this.noteOffsets[note + 1]++;
+        }
+        for (int note = 0; note < NUM_NOTES; note++)
+            this.noteOffsets[note + 1] += this.noteOffsets[note];
+
+        final int [] positions = Arrays.copyOf (this.noteOffsets, NUM_NOTES);
+        for (int pad = 0; pad < numPads; pad++)
+        {
+            final int note = matrix[pad];
+            if (note >= 0 && note < NUM_NOTES)
+                this.padsOfNote[positions[note]++] = pad;
+        }
     }
 }
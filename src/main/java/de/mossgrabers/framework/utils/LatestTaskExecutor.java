@@ -8,27 +8,51 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
  * Executes only one task. When new tasks arrive for execution only the latest one will be stored
- * for execution.
+ * for execution. A new execution is only submitted to the underlying executor if there is no
+ * pending one, therefore a task which arrives while another is waiting simply replaces it. Tasks of
+ * one instance never run in parallel, even if the underlying executor uses several threads.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class LatestTaskExecutor implements Executor
 {
-    private final AtomicReference<Runnable> lastTask = new AtomicReference<> ();
-    private final ExecutorService           executor;
+    private static final ExecutorService    SHARED_EXECUTOR = Executors.newCachedThreadPool (LatestTaskExecutor::createThread);
+
+    private final AtomicReference<Runnable> lastTask        = new AtomicReference<> ();
+    private final AtomicBoolean             isScheduled     = new AtomicBoolean ();
+    private final AtomicLong                replacedTasks   = new AtomicLong ();
+    private final DurationHistogram         durations       = new DurationHistogram ();
+    private final Executor                  executor;
+    private final Runnable                  drainTask       = this::drain;
+    private final Object                    terminationLock = new Object ();
+    private volatile boolean                isShutdown;
 
 
     /**
-     * Constructor.
+     * Constructor. Uses a thread pool which is shared by all instances. Threads are created on
+     * demand and stopped if they are not used for some time.
      */
     public LatestTaskExecutor ()
     {
-        this.executor = Executors.newSingleThreadExecutor ();
+        this (SHARED_EXECUTOR);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param executor The executor to run the tasks, it is not shut down by this executor
+     */
+    public LatestTaskExecutor (final Executor executor)
+    {
+        this.executor = executor;
     }
 
 
@@ -36,21 +60,21 @@ public class LatestTaskExecutor implements Executor
     @Override
     public void execute (final Runnable command)
     {
-        this.lastTask.set (command);
-        this.executor.execute ( () -> {
-            final Runnable task = this.lastTask.getAndSet (null);
-            if (task != null)
-                task.run ();
-        });
+        if (this.isShutdown)
+            return;
+
+        if (this.lastTask.getAndSet (command) != null)
+            this.replacedTasks.incrementAndGet ();
+        this.schedule ();
     }
 
 
     /**
-     * Shutdown the executor.
+     * Shutdown the executor. A pending task is still executed but no new tasks are accepted.
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        this.isShutdown = true;
     }
 
 
@@ -61,7 +85,7 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean isShutdown ()
     {
-        return this.executor.isShutdown ();
+        return this.isShutdown;
     }
 
 
@@ -77,6 +101,81 @@ public class LatestTaskExecutor implements Executor
      */
     public boolean awaitTermination (final long timeout, final TimeUnit unit) throws InterruptedException
     {
-        return this.executor.awaitTermination (timeout, unit);
+        final long end = System.nanoTime () + unit.toNanos (timeout);
+        synchronized (this.terminationLock)
+        {
+            while (!this.isShutdown || this.isScheduled.get ())
+            {
+                final long remaining = end - System.nanoTime ();
+                if (remaining <= 0)
+                    return false;
+                TimeUnit.NANOSECONDS.timedWait (this.terminationLock, remaining);
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Get the number of tasks which were replaced by a newer one before they were executed.
+     *
+     * @return The number of tasks
+     */
+    public long getReplacedTasks ()
+    {
+        return this.replacedTasks.get ();
+    }
+
+
+    /**
+     * Get the histogram of the execution durations of the tasks.
+     *
+     * @return The histogram
+     */
+    public DurationHistogram getDurations ()
+    {
+        return this.durations;
+    }
+
+
+    private static Thread createThread (final Runnable runnable)
+    {
+        final Thread thread = new Thread (runnable, "LatestTaskExecutor");
+        thread.setDaemon (true);
+        return thread;
+    }
+
+
+    private void schedule ()
+    {
+        if (this.isScheduled.compareAndSet (false, true))
+            this.executor.execute (this.drainTask);
+    }
+
+
+    private void drain ()
+    {
+        try
+        {
+            final Runnable task = this.lastTask.getAndSet (null);
+            if (task != null)
+            {
+                final long start = System.nanoTime ();
+                task.run ();
+                this.durations.record (System.nanoTime () - start);
+            }
+        }
+        finally
+        {
+            this.isScheduled.set (false);
+            synchronized (this.terminationLock)
+            {
+                this.terminationLock.notifyAll ();
+            }
+        }
+
+        // A task might have arrived while the last one was running
+        if (this.lastTask.get () != null)
+            this.schedule ();
     }
-}
\ No newline at end of file
+}
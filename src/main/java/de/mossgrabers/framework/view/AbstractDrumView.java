@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.DAWColor;
@@ -49,6 +50,21 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     /** The color ID for the off state. */
     public static final String COLOR_PAD_OFF         = "COLOR_PAD_OFF";
 
+    /** Color token of COLOR_PAD_RECORD. */
+    public static final int    TOKEN_PAD_RECORD      = ColorManager.getColorToken (COLOR_PAD_RECORD);
+    /** Color token of COLOR_PAD_PLAY. */
+    public static final int    TOKEN_PAD_PLAY        = ColorManager.getColorToken (COLOR_PAD_PLAY);
+    /** Color token of COLOR_PAD_SELECTED. */
+    public static final int    TOKEN_PAD_SELECTED    = ColorManager.getColorToken (COLOR_PAD_SELECTED);
+    /** Color token of COLOR_PAD_MUTED. */
+    public static final int    TOKEN_PAD_MUTED       = ColorManager.getColorToken (COLOR_PAD_MUTED);
+    /** Color token of COLOR_PAD_HAS_CONTENT. */
+    public static final int    TOKEN_PAD_HAS_CONTENT = ColorManager.getColorToken (COLOR_PAD_HAS_CONTENT);
+    /** Color token of COLOR_PAD_NO_CONTENT. */
+    public static final int    TOKEN_PAD_NO_CONTENT  = ColorManager.getColorToken (COLOR_PAD_NO_CONTENT);
+    /** Color token of COLOR_PAD_OFF. */
+    public static final int    TOKEN_PAD_OFF         = ColorManager.getColorToken (COLOR_PAD_OFF);
+
     protected static final int DRUM_START_KEY        = 36;
     protected static final int GRID_COLUMNS          = 8;
 
@@ -322,7 +338,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             for (int x = 0; x < this.halfColumns; x++)
             {
                 final int index = this.halfColumns * y + x;
-                padGrid.lightEx (x, this.allLines - 1 - y, this.getPadColor (index, primary, isSoloed, isRecording));
+                padGrid.lightExToken (x, this.allLines - 1 - y, this.getPadColor (index, primary, isSoloed, isRecording));
             }
         }
 
@@ -331,46 +347,46 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    protected int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
         final int offsetY = this.scales.getDrumOffset ();
 
         // Playing note?
         if (this.keyManager.isKeyPressed (offsetY + index))
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? AbstractDrumView.TOKEN_PAD_RECORD : AbstractDrumView.TOKEN_PAD_PLAY;
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return AbstractDrumView.TOKEN_PAD_SELECTED;
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.TOKEN_PAD_OFF : AbstractDrumView.TOKEN_PAD_NO_CONTENT;
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return AbstractDrumView.TOKEN_PAD_MUTED;
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return ColorManager.getColorToken (DAWColor.getDAWColor (drumPad.getColor ()));
     }
 
 
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
         switch (isSet)
         {
             // Note continues
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return hilite ? AbstractSequencerView.TOKEN_STEP_HILITE_CONTENT : AbstractSequencerView.TOKEN_CONTENT_CONT;
             // Note starts
             case IStepInfo.NOTE_START:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return hilite ? AbstractSequencerView.TOKEN_STEP_HILITE_CONTENT : AbstractSequencerView.TOKEN_CONTENT;
             // Empty
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? AbstractSequencerView.TOKEN_STEP_HILITE_NO_CONTENT : AbstractSequencerView.TOKEN_NO_CONTENT;
         }
     }
 
@@ -558,7 +574,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.halfColumns + pad % this.halfColumns;
             final int y = this.sequencerLines + pad / this.halfColumns;
-            padGrid.lightEx (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightExToken (x, y, isActive ? this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad) : AbstractSequencerView.TOKEN_NO_CONTENT);
         }
 
         // Paint the sequencer steps
@@ -570,7 +586,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             final boolean hilite = col == hiStep;
             final int x = col % GRID_COLUMNS;
             final int y = col / GRID_COLUMNS;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightExToken (x, y, isActive ? this.getStepColor (isSet, hilite) : AbstractSequencerView.TOKEN_NO_CONTENT);
         }
     }
 
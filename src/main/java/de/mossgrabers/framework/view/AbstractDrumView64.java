@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.DAWColor;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDrumPadBank;
@@ -157,35 +158,35 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
         {
             final int x = index / 32 * 4 + index % 4;
             final int y = index / 4 % 8;
-            this.surface.getPadGrid ().lightEx (x, 7 - y, this.getPadColor (index, drumDevice64, isSoloed, isRecording));
+            this.surface.getPadGrid ().lightExToken (x, 7 - y, this.getPadColor (index, drumDevice64, isSoloed, isRecording));
         }
     }
 
 
-    private String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    private int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? AbstractDrumView.TOKEN_PAD_RECORD : AbstractDrumView.TOKEN_PAD_PLAY;
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return AbstractDrumView.TOKEN_PAD_SELECTED;
 
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.TOKEN_PAD_OFF : AbstractDrumView.TOKEN_PAD_NO_CONTENT;
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return AbstractDrumView.TOKEN_PAD_MUTED;
 
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColor.getColorIndex (drumPad.getColor ());
+        return ColorManager.getColorToken (DAWColor.getDAWColor (drumPad.getColor ()));
     }
 
 
@@ -253,7 +253,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
                 // 0: not set, 1: note continues playing, 2: start of note
                 final int map = this.keyManager.map (y);
                 final int isSet = map < 0 ? 0 : clip.getStep (editMidiChannel, x, map).getState ();
-                gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, selectedTrack));
+                gridPad.lightExToken (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, selectedTrack));
             }
         }
 
@@ -266,7 +266,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int loopEndPad = (int) Math.ceil ((loopStart + clip.getLoopLength ()) / lengthOfOnePad);
         final int currentPage = step / this.numDisplayCols;
         for (int pad = 0; pad < 8; pad++)
-            gridPad.lightEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            gridPad.lightExToken (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
     }
 
 
@@ -277,22 +277,22 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
      * @param hilite The step should be highlighted
      * @param note The note of the step
      * @param track A track from which to use the color
-     * @return The color
+     * @return The color token
      */
-    protected String getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
+    protected int getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
     {
         switch (isSet)
         {
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT_CONT;
+                return hilite ? TOKEN_STEP_HILITE_CONTENT : TOKEN_CONTENT_CONT;
 
             case IStepInfo.NOTE_START:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT;
+                return hilite ? TOKEN_STEP_HILITE_CONTENT : TOKEN_CONTENT;
 
             case IStepInfo.NOTE_OFF:
             default:
                 if (hilite)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
+                    return TOKEN_STEP_HILITE_NO_CONTENT;
                 return this.getPadColor (note, this.useTrackColor ? track : null);
         }
     }
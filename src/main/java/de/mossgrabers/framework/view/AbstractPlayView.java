@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -33,6 +34,13 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
     /** ID of the color to use when a pad does not contain a note. */
     public static final String COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
 
+    /** Color token of COLOR_PLAY. */
+    public static final int    TOKEN_PLAY   = ColorManager.getColorToken (COLOR_PLAY);
+    /** Color token of COLOR_RECORD. */
+    public static final int    TOKEN_RECORD = ColorManager.getColorToken (COLOR_RECORD);
+    /** Color token of COLOR_OFF. */
+    public static final int    TOKEN_OFF    = ColorManager.getColorToken (COLOR_OFF);
+
     protected final int []     defaultVelocity;
     protected final boolean    useTrackColor;
 
@@ -89,7 +97,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
 
         final ITrack selectedTrack = this.model.getSelectedTrack ();
         for (int i = this.scales.getStartNote (); i < this.scales.getEndNote (); i++)
-            lightGuide.light (i, this.getGridColor (isKeyboardEnabled, isRecording, selectedTrack, i));
+            lightGuide.lightToken (i, this.getGridColor (isKeyboardEnabled, isRecording, selectedTrack, i));
     }
 
 
@@ -114,17 +122,17 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color token
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? AbstractPlayView.TOKEN_RECORD : AbstractPlayView.TOKEN_PLAY;
             return this.getPadColor (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return AbstractPlayView.TOKEN_OFF;
     }
 
 
@@ -318,7 +318,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
             final boolean hilite = col == hiStep;
             final int x = col % GRID_COLUMNS;
             final int y = col / GRID_COLUMNS;
-            padGrid.lightEx (x, y, isActive ? this.getStepColor (isSet, hilite) : AbstractSequencerView.COLOR_NO_CONTENT);
+            padGrid.lightExToken (x, y, isActive ? this.getStepColor (isSet, hilite) : AbstractSequencerView.TOKEN_NO_CONTENT);
         }
 
         // Paint the play part
@@ -326,7 +326,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
         final ITrack selectedTrack = this.model.getSelectedTrack ();
         final int startNote = this.scales.getStartNote ();
         for (int i = startNote; i < startNote + this.sequencerSteps; i++)
-            padGrid.light (i, this.getGridColor (isKeyboardEnabled, isRecording, selectedTrack, i));
+            padGrid.lightToken (i, this.getGridColor (isKeyboardEnabled, isRecording, selectedTrack, i));
 
     }
 
@@ -335,7 +335,7 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
     @Override
     public void updateNoteMapping ()
     {
-        final int [] matrix = this.scales.getNoteMatrix ();
+        final int [] matrix = this.scales.getNoteMatrix ().clone ();
         for (int i = this.scales.getStartNote () + this.sequencerSteps; i < this.scales.getEndNote (); i++)
             matrix[i] = -1;
         this.delayedUpdateNoteMapping (matrix);
@@ -371,22 +371,22 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      *
      * @param isSet True if the note is set
      * @param hilite True if note should be highlighted
-     * @return The color identifier
+     * @return The color token
      */
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
         switch (isSet)
         {
             // Note continues
             case IStepInfo.NOTE_CONTINUE:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return hilite ? AbstractSequencerView.TOKEN_STEP_HILITE_CONTENT : AbstractSequencerView.TOKEN_CONTENT_CONT;
             // Note starts
             case IStepInfo.NOTE_START:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return hilite ? AbstractSequencerView.TOKEN_STEP_HILITE_CONTENT : AbstractSequencerView.TOKEN_CONTENT;
             // Empty
             case IStepInfo.NOTE_OFF:
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? AbstractSequencerView.TOKEN_STEP_HILITE_NO_CONTENT : AbstractSequencerView.TOKEN_NO_CONTENT;
         }
     }
 
@@ -398,16 +398,16 @@ public abstract class AbstractPolySequencerView<S extends IControlSurface<C>, C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color token
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? AbstractPlayView.TOKEN_RECORD : AbstractPlayView.TOKEN_PLAY;
             return this.getPadColor (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return AbstractPlayView.TOKEN_OFF;
     }
 }
\ No newline at end of file
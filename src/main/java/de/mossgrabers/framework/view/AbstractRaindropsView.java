@@ -139,15 +139,15 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
             for (int y = 0; y < this.numDisplayRows; y++)
             {
-                String colorID = y == 0 ? this.getPadColor (x, selectedTrack) : AbstractSequencerView.COLOR_NO_CONTENT;
+                int colorToken = y == 0 ? this.getPadColor (x, selectedTrack) : AbstractSequencerView.TOKEN_NO_CONTENT;
                 if (isOn)
                 {
                     if (y == distance)
-                        colorID = AbstractSequencerView.COLOR_CONTENT;
+                        colorToken = AbstractSequencerView.TOKEN_CONTENT;
                     if (left <= distance && y == left || left > distance && y == sum - left)
-                        colorID = AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT;
+                        colorToken = AbstractSequencerView.TOKEN_STEP_HILITE_NO_CONTENT;
                 }
-                padGrid.lightEx (x, this.numDisplayRows - 1 - y, colorID);
+                padGrid.lightExToken (x, this.numDisplayRows - 1 - y, colorToken);
             }
         }
     }
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.constants.Resolution;
@@ -50,6 +51,23 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     /** The color for selected transposition. */
     public static final String    COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
 
+    /** Color token of COLOR_STEP_HILITE_NO_CONTENT. */
+    public static final int       TOKEN_STEP_HILITE_NO_CONTENT = ColorManager.getColorToken (COLOR_STEP_HILITE_NO_CONTENT);
+    /** Color token of COLOR_STEP_HILITE_CONTENT. */
+    public static final int       TOKEN_STEP_HILITE_CONTENT    = ColorManager.getColorToken (COLOR_STEP_HILITE_CONTENT);
+    /** Color token of COLOR_NO_CONTENT. */
+    public static final int       TOKEN_NO_CONTENT             = ColorManager.getColorToken (COLOR_NO_CONTENT);
+    /** Color token of COLOR_CONTENT. */
+    public static final int       TOKEN_CONTENT                = ColorManager.getColorToken (COLOR_CONTENT);
+    /** Color token of COLOR_CONTENT_CONT. */
+    public static final int       TOKEN_CONTENT_CONT           = ColorManager.getColorToken (COLOR_CONTENT_CONT);
+    /** Color token of COLOR_PAGE. */
+    public static final int       TOKEN_PAGE                   = ColorManager.getColorToken (COLOR_PAGE);
+    /** Color token of COLOR_ACTIVE_PAGE. */
+    public static final int       TOKEN_ACTIVE_PAGE            = ColorManager.getColorToken (COLOR_ACTIVE_PAGE);
+    /** Color token of COLOR_SELECTED_PAGE. */
+    public static final int       TOKEN_SELECTED_PAGE          = ColorManager.getColorToken (COLOR_SELECTED_PAGE);
+
     protected int                 numSequencerRows;
     protected int                 selectedResolutionIndex;
     protected final Configuration configuration;
@@ -251,20 +269,20 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param playPage The page which contains the currently played step
      * @param selectedPage The page selected fpr editing
      * @param page The page for which to get the color
-     * @return The color to use
+     * @return The token of the color to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected int getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return AbstractSequencerView.TOKEN_ACTIVE_PAGE;
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return AbstractSequencerView.TOKEN_SELECTED_PAGE;
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return AbstractSequencerView.TOKEN_NO_CONTENT;
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return AbstractSequencerView.TOKEN_PAGE;
     }
 
 
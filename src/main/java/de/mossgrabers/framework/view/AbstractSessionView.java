@@ -365,7 +365,7 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     protected SessionColor getPadColor (final ISlot slot, final boolean isArmed)
     {
-        final String colorIndex = DAWColor.getColorIndex (slot.getColor ());
+        final DAWColor dawColor = DAWColor.getDAWColor (slot.getColor ());
         final ColorManager cm = this.model.getColorManager ();
 
         if (slot.isRecordingQueued ())
@@ -373,29 +373,29 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
         if (slot.isRecording ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColorIndex (dawColor), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
             return this.clipColorIsRecording;
         }
 
         if (slot.isPlayingQueued ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsPlayingQueued.getBlink (), this.clipColorIsPlayingQueued.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColorIndex (dawColor), this.clipColorIsPlayingQueued.getBlink (), this.clipColorIsPlayingQueued.isFast ());
             return this.clipColorIsPlayingQueued;
         }
 
         if (slot.isPlaying ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColorIndex (dawColor), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
             return this.clipColorIsPlaying;
         }
 
         if (slot.hasContent ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColorIndex (colorIndex), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColorIndex (dawColor), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
             return this.clipColorHasContent;
         }
 
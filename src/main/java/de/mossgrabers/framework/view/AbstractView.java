@@ -173,37 +173,33 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
 
     /**
-     * Get the ID of the color to use for a pad with respect to the current scale settings.
+     * Get the token of the color to use for a pad with respect to the current scale settings.
      *
      * @param pad The midi note of the pad
      * @param track A track to use the track color for coloring the octave notes, set to null to use
      *            the default color
-     * @return The color ID
+     * @return The color token
      */
-    protected String getPadColor (final int pad, final ITrack track)
+    protected int getPadColor (final int pad, final ITrack track)
     {
-        return replaceOctaveColorWithTrackColor (track, this.keyManager.getColor (pad));
+        return replaceOctaveColorWithTrackColor (track, this.keyManager.getColorToken (pad));
     }
 
 
     /**
-     * If the given color ID is the octave color ID it will be replaced with the track color ID.
+     * If the given color token is the octave color token it will be replaced with the token of the
+     * track color.
      *
      * @param track A track to use the track color for coloring the octave notes, set to null to use
      *            the default color
-     * @param colorID
-     * @return The color ID
+     * @param colorToken The color token
+     * @return The color token
      */
-    protected static String replaceOctaveColorWithTrackColor (final ITrack track, final String colorID)
+    protected static int replaceOctaveColorWithTrackColor (final ITrack track, final int colorToken)
     {
-        if (Scales.SCALE_COLOR_OCTAVE.equals (colorID))
-        {
-            if (track == null)
-                return Scales.SCALE_COLOR_OCTAVE;
-            final String c = DAWColor.getColorIndex (track.getColor ());
-            return c == null ? Scales.SCALE_COLOR_OCTAVE : c;
-        }
-        return colorID;
+        if (colorToken == Scales.TOKEN_OCTAVE && track != null)
+            return ColorManager.getColorToken (DAWColor.getDAWColor (track.getColor ()));
+        return colorToken;
     }
 
 